@@ -4,14 +4,21 @@ import com.example.storereservation.domain.partner.dto.PartnerDto;
 import com.example.storereservation.domain.partner.dto.RegisterPartner;
 import com.example.storereservation.domain.partner.persist.PartnerEntity;
 import com.example.storereservation.domain.partner.persist.PartnerRepository;
+import com.example.storereservation.domain.store.cache.StoreSearchCache;
 import com.example.storereservation.domain.store.dto.AddStore;
 import com.example.storereservation.domain.store.dto.EditStore;
 import com.example.storereservation.domain.store.dto.StoreDto;
+import com.example.storereservation.domain.store.index.StoreGeoIndex;
+import com.example.storereservation.domain.store.index.StoreIdDictionary;
+import com.example.storereservation.domain.store.index.StoreNameIndex;
+import com.example.storereservation.domain.store.index.StoreRankingIndex;
 import com.example.storereservation.domain.store.persist.StoreEntity;
 import com.example.storereservation.domain.store.persist.StoreRepository;
+import com.example.storereservation.global.auth.cache.PrincipalCache;
 import com.example.storereservation.global.exception.ErrorCode;
 import com.example.storereservation.global.exception.MyException;
 import com.example.storereservation.global.util.PasswordUtils;
+import com.example.storereservation.global.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,6 +33,12 @@ public class PartnerService {
 
     private final PartnerRepository partnerRepository;
     private final StoreRepository storeRepository;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreIdDictionary storeIdDictionary;
+    private final StoreNameIndex storeNameIndex;
+    private final StoreRankingIndex storeRankingIndex;
+    private final StoreSearchCache storeSearchCache;
+    private final PrincipalCache principalCache;
 
     /**
      * 파트너 회원가입
@@ -40,6 +53,7 @@ public class PartnerService {
         request.setPassword(PasswordUtils.encPassword(request.getPassword()));
         PartnerEntity savedManager = partnerRepository.save(RegisterPartner.Request.toEntity(request));
         log.info("Manager register complete : {}", savedManager);
+        TransactionUtils.afterCommit(() -> principalCache.invalidate(savedManager.getPartnerId()));
 
         return PartnerDto.fromEntity(savedManager);
     }
@@ -61,6 +75,14 @@ public class PartnerService {
         StoreEntity savedStore = storeRepository.save(AddStore.Request.toEntity(request, partnerId));
         partner.setStore(savedStore.getId(), savedStore.getStoreName());
         partnerRepository.save(partner);
+        TransactionUtils.afterCommit(() -> {
+            storeGeoIndex.put(savedStore);
+            storeIdDictionary.put(savedStore);
+            storeNameIndex.put(savedStore);
+            storeRankingIndex.put(savedStore);
+            storeSearchCache.invalidateAll();
+            principalCache.invalidate(partnerId);
+        });
 
         return StoreDto.fromEntity(savedStore);
     }
@@ -83,6 +105,13 @@ public class PartnerService {
 
         store.edit(request);
         StoreEntity updatedStore = storeRepository.save(store);
+        TransactionUtils.afterCommit(() -> {
+            storeGeoIndex.put(updatedStore);
+            storeIdDictionary.put(updatedStore);
+            storeNameIndex.put(updatedStore);
+            storeRankingIndex.put(updatedStore);
+            storeSearchCache.invalidateAll();
+        });
 
         return StoreDto.fromEntity(updatedStore);
     }
@@ -0,0 +1,287 @@
+package com.example.storereservation.domain.reservation.board;
+
+import com.example.storereservation.domain.reservation.persist.ReservationEntity;
+import com.example.storereservation.domain.reservation.persist.ReservationRepository;
+import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import com.example.storereservation.global.util.TransactionUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 오늘의 CONFIRM 예약 보드
+ * - 도착 확인(키오스크)과 전화번호 뒷 4자리 조회를 DB 조회 없이 처리하기 위한 메모리 인덱스
+ * - 서버 시작 시, 매일 자정에 다시 만들고, 예약 상태가 변경되면 커밋 후 반영한다.
+ * - 보드에 없는 예약은 DB로 확인하므로 보드는 항상 DB의 부분 집합이면 된다.
+ * - 다시 만드는 동안 커밋된 상태 변경은 journal에 기록해 두었다가 교체 직전에 새 보드에 다시 반영한다.
+ *   (조회 이후에 ARRIVED / REFUSED 등으로 바뀐 예약이 CONFIRM으로 남지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodayReservationBoard {
+
+    private final ReservationRepository reservationRepository;
+
+    private volatile Board board = new Board(LocalDate.now());
+
+    /**
+     * 다시 만드는 중에 반영된 변경 (예약 ID -> 추가된 예약, 제거면 empty) - 다시 만드는 중이 아니면 null
+     */
+    private Map<Long, Optional<ReservationEntity>> rebuildJournal;
+
+    /**
+     * 변경 반영은 read lock, journal 시작 / 보드 교체는 write lock
+     */
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        swapLock.writeLock().lock();
+        try {
+            rebuildJournal = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        Board rebuilt = new Board(today);
+        List<ReservationEntity> confirmed;
+        try {
+            confirmed = reservationRepository.findByStatusAndTimeBetween(ReservationStatus.CONFIRM,
+                    LocalDateTime.of(today, LocalTime.MIN), LocalDateTime.of(today, LocalTime.MAX));
+            confirmed.forEach(rebuilt::put);
+        } catch (RuntimeException e) {
+            swapLock.writeLock().lock();
+            try {
+                rebuildJournal = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        swapLock.writeLock().lock();
+        try {
+            rebuildJournal.forEach((id, change) -> {
+                if (change.isPresent()) {
+                    rebuilt.put(change.get());
+                } else {
+                    rebuilt.remove(id);
+                }
+            });
+            board = rebuilt;
+            rebuildJournal = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        log.info("TodayReservationBoard rebuild complete => date: {}, reservations: {}", today, confirmed.size());
+    }
+
+    /**
+     * 보드에서 예약 찾기
+     */
+    public Optional<BoardEntry> find(Long reservationId) {
+        return Optional.ofNullable(board.entries.get(reservationId));
+    }
+
+    /**
+     * 파트너 매장의 오늘 CONFIRM 예약 중 전화번호 뒷 4자리가 일치하는 예약
+     */
+    public List<BoardEntry> findByPhoneNumberLast4(String partnerId, String phoneNumberLast4) {
+        short last4 = parseLast4(phoneNumberLast4);
+        StoreBoard storeBoard = board.stores.get(partnerId);
+        if (last4 < 0 || storeBoard == null) {
+            return Collections.emptyList();
+        }
+
+        List<BoardEntry> result = new ArrayList<>();
+        for (long id : storeBoard.findByLast4(last4)) {
+            BoardEntry entry = board.entries.get(id);
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 커밋 후 예약 상태를 보드에 반영
+     * - CONFIRM이면 추가, 아니면 제거
+     * @param reservation 예약 엔티티
+     * @param status 변경된 예약 상태
+     */
+    public void refreshAfterCommit(ReservationEntity reservation, ReservationStatus status) {
+        if (status == ReservationStatus.CONFIRM) {
+            TransactionUtils.afterCommit(() -> apply(reservation.getId(), Optional.of(reservation)));
+        } else {
+            removeAfterCommit(reservation.getId());
+        }
+    }
+
+    /**
+     * 커밋 후 보드에서 예약 제거
+     */
+    public void removeAfterCommit(Long reservationId) {
+        TransactionUtils.afterCommit(() -> apply(reservationId, Optional.empty()));
+    }
+
+    /**
+     * 현재 보드에 변경 반영 (다시 만드는 중이면 journal에도 기록)
+     * @param change 추가할 예약 (제거면 empty)
+     */
+    private void apply(Long reservationId, Optional<ReservationEntity> change) {
+        swapLock.readLock().lock();
+        try {
+            if (change.isPresent()) {
+                board.put(change.get());
+            } else {
+                board.remove(reservationId);
+            }
+            Map<Long, Optional<ReservationEntity>> journal = rebuildJournal;
+            if (journal != null) {
+                journal.put(reservationId, change);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 예약 시간이 지난 예약 제거
+     */
+    public void evictBefore(LocalDateTime time) {
+        Board current = board;
+        current.entries.values().stream()
+                .filter(entry -> entry.getTime().isBefore(time))
+                .map(BoardEntry::getId)
+                .forEach(current::remove);
+    }
+
+    private static short parseLast4(String phone) {
+        if (phone == null || phone.length() < 4) {
+            return -1;
+        }
+        String last4 = phone.substring(phone.length() - 4);
+        if (!last4.chars().allMatch(Character::isDigit)) {
+            return -1;
+        }
+        return Short.parseShort(last4);
+    }
+
+    /**
+     * 예약 정보 (도착 확인, 키오스크 응답에 필요한 값만 보관)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class BoardEntry {
+        private final long id;
+        private final String userId;
+        private final String partnerId;
+        private final String storeName;
+        private final short phoneNumberLast4;
+        private final int people;
+        private final LocalDateTime time;
+
+        public boolean matchesPhoneNumberLast4(String input) {
+            return phoneNumberLast4 >= 0 && phoneNumberLast4 == parseLast4(input);
+        }
+    }
+
+    /**
+     * 특정 날짜의 보드
+     */
+    private static class Board {
+        private final LocalDate date;
+        private final Map<Long, BoardEntry> entries = new ConcurrentHashMap<>();
+        private final Map<String, StoreBoard> stores = new ConcurrentHashMap<>();
+
+        private Board(LocalDate date) {
+            this.date = date;
+        }
+
+        private void put(ReservationEntity reservation) {
+            if (!reservation.getTime().toLocalDate().equals(date)) {
+                return;
+            }
+            BoardEntry entry = new BoardEntry(reservation.getId(), reservation.getUserId(), reservation.getPartnerId(),
+                    reservation.getStoreName(), parseLast4(reservation.getPhone()), reservation.getPeople(),
+                    reservation.getTime());
+            if (entries.put(entry.getId(), entry) == null) {
+                stores.computeIfAbsent(entry.getPartnerId(), key -> new StoreBoard())
+                        .add(entry.getId(), entry.getPhoneNumberLast4());
+            }
+        }
+
+        private void remove(Long reservationId) {
+            BoardEntry removed = entries.remove(reservationId);
+            if (removed != null) {
+                StoreBoard storeBoard = stores.get(removed.getPartnerId());
+                if (storeBoard != null) {
+                    storeBoard.remove(removed.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * 매장 별 (예약 ID, 전화번호 뒷 4자리) 목록
+     * - 하루 예약 수는 많지 않으므로 primitive 배열을 순차 탐색한다.
+     */
+    private static class StoreBoard {
+        private long[] ids = new long[16];
+        private short[] last4s = new short[16];
+        private int size;
+
+        private synchronized void add(long id, short last4) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                last4s = Arrays.copyOf(last4s, size * 2);
+            }
+            ids[size] = id;
+            last4s[size] = last4;
+            size++;
+        }
+
+        private synchronized void remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    size--;
+                    ids[i] = ids[size];
+                    last4s[i] = last4s[size];
+                    return;
+                }
+            }
+        }
+
+        private synchronized long[] findByLast4(short last4) {
+            long[] found = new long[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (last4s[i] == last4) {
+                    found[count++] = ids[i];
+                }
+            }
+            return Arrays.copyOf(found, count);
+        }
+    }
+}
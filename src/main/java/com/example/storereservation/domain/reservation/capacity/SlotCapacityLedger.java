@@ -0,0 +1,239 @@
+package com.example.storereservation.domain.reservation.capacity;
+
+import com.example.storereservation.domain.reservation.persist.ReservationEntity;
+import com.example.storereservation.domain.reservation.persist.ReservationRepository;
+import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import com.example.storereservation.domain.store.persist.StoreEntity;
+import com.example.storereservation.global.util.TransactionUtils;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 매장 / 시간대(slot) 별 예약 좌석 수 관리
+ * - (매장, slot) 마다 AtomicInteger 카운터를 두고 CAS로 좌석을 점유한다. (DB 락 없음)
+ * - 서버 시작 시 ReservationRepository의 좌석 점유 예약으로 다시 계산한다.
+ *   새 map을 만든 후 교체하며, 재계산 중에 점유 / 반환된 좌석은 따로 기록했다가 교체할 때 더한다.
+ *   (재계산 조회에 이미 포함된 예약은 두 번 더해질 수 있지만, 좌석을 적게 세어 초과 예약되는 일은 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotCapacityLedger {
+
+    @Value("${reservation.slot.minutes:30}")
+    private int slotMinutes;
+
+    @Value("${reservation.slot.default-capacity:20}")
+    private int defaultCapacity;
+
+    private final ReservationRepository reservationRepository;
+
+    private volatile Map<SlotKey, AtomicInteger> reservedSeats = new ConcurrentHashMap<>();
+
+    /**
+     * 재계산 중의 좌석 증감 (재계산 중이 아니면 null)
+     */
+    private Map<SlotKey, AtomicInteger> rebuildDelta;
+
+    /**
+     * 좌석 증감은 read lock, 재계산 시작 / map 교체는 write lock
+     */
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    /**
+     * 서버 시작 시 오늘 이후의 좌석 점유 예약으로 ledger 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        EnumSet<ReservationStatus> holding = Arrays.stream(ReservationStatus.values())
+                .filter(ReservationStatus::holdsSeat)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(ReservationStatus.class)));
+
+        swapLock.writeLock().lock();
+        try {
+            rebuildDelta = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        Map<SlotKey, AtomicInteger> rebuilt = new ConcurrentHashMap<>();
+        List<ReservationEntity> reservations;
+        try {
+            reservations = reservationRepository.findByStatusInAndTimeGreaterThanEqual(
+                    holding, LocalDate.now().atStartOfDay());
+            for (ReservationEntity reservation : reservations) {
+                rebuilt.computeIfAbsent(new SlotKey(reservation.getStoreId(), slotOf(reservation.getTime())),
+                        key -> new AtomicInteger()).addAndGet(reservation.getPeople());
+            }
+        } catch (RuntimeException e) {
+            swapLock.writeLock().lock();
+            try {
+                rebuildDelta = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        swapLock.writeLock().lock();
+        try {
+            rebuildDelta.forEach((key, delta) -> rebuilt.computeIfAbsent(key, k -> new AtomicInteger())
+                    .updateAndGet(reserved -> Math.max(0, reserved + delta.get())));
+            reservedSeats = rebuilt;
+            rebuildDelta = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        log.info("SlotCapacityLedger rebuild complete => reservations: {}, slots: {}",
+                reservations.size(), rebuilt.size());
+    }
+
+    /**
+     * 매장의 시간대 별 좌석 수
+     * - 매장에 설정된 좌석 수가 없으면 기본 좌석 수를 사용한다.
+     */
+    public int capacityOf(StoreEntity store) {
+        Integer capacity = store.getCapacity();
+        return capacity != null && capacity > 0 ? capacity : defaultCapacity;
+    }
+
+    /**
+     * 좌석 점유 시도
+     * @param storeId 매장 ID
+     * @param time 예약 시간
+     * @param people 인원 수
+     * @param capacity 매장의 시간대 별 좌석 수
+     * @return 좌석이 남아 점유에 성공하면 true
+     */
+    public boolean tryAcquire(Long storeId, LocalDateTime time, int people, int capacity) {
+        SlotKey key = new SlotKey(storeId, slotOf(time));
+        swapLock.readLock().lock();
+        try {
+            AtomicInteger seats = reservedSeats.computeIfAbsent(key, k -> new AtomicInteger());
+            while (true) {
+                int reserved = seats.get();
+                if (reserved + people > capacity) {
+                    return false;
+                }
+                if (seats.compareAndSet(reserved, reserved + people)) {
+                    recordDelta(key, people);
+                    return true;
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 시간대의 남은 좌석 수
+     */
+    public int remaining(Long storeId, LocalDateTime time, int capacity) {
+        AtomicInteger seats = reservedSeats.get(new SlotKey(storeId, slotOf(time)));
+        return capacity - (seats == null ? 0 : seats.get());
+    }
+
+    /**
+     * 좌석 반환
+     */
+    public void release(Long storeId, LocalDateTime time, int people) {
+        SlotKey key = new SlotKey(storeId, slotOf(time));
+        swapLock.readLock().lock();
+        try {
+            AtomicInteger seats = reservedSeats.get(key);
+            if (seats != null) {
+                seats.updateAndGet(reserved -> Math.max(0, reserved - people));
+            }
+            recordDelta(key, -people);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 재계산 중이면 좌석 증감 기록 (read lock 안에서 호출)
+     */
+    private void recordDelta(SlotKey key, int people) {
+        Map<SlotKey, AtomicInteger> delta = rebuildDelta;
+        if (delta != null) {
+            delta.computeIfAbsent(key, k -> new AtomicInteger()).addAndGet(people);
+        }
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 점유한 좌석 반환
+     */
+    public void releaseOnRollback(Long storeId, LocalDateTime time, int people) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(storeId, time, people);
+                }
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션이 커밋된 후 좌석 반환 (트랜잭션이 없으면 즉시 반환)
+     */
+    public void releaseAfterCommit(Long storeId, LocalDateTime time, int people) {
+        TransactionUtils.afterCommit(() -> release(storeId, time, people));
+    }
+
+    /**
+     * 지나간 시간대의 카운터 제거
+     * @param time 기준 시간
+     */
+    public void evictBefore(LocalDateTime time) {
+        LocalDateTime slot = slotOf(time);
+        reservedSeats.keySet().removeIf(key -> key.slot.isBefore(slot));
+    }
+
+    /**
+     * 예약 시간이 속한 slot의 시작 시간
+     */
+    public LocalDateTime slotOf(LocalDateTime time) {
+        LocalDateTime day = time.truncatedTo(ChronoUnit.DAYS);
+        long minutes = ChronoUnit.MINUTES.between(day, time);
+        return day.plusMinutes(minutes - minutes % slotMinutes);
+    }
+
+    /**
+     * 예약 시간이 속한 slot의 다음 slot 시작 시간
+     */
+    public LocalDateTime nextSlotOf(LocalDateTime time) {
+        return slotOf(time).plusMinutes(slotMinutes);
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class SlotKey {
+        private final Long storeId;
+        private final LocalDateTime slot;
+    }
+}
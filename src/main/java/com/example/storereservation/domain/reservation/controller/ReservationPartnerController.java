@@ -1,21 +1,28 @@
 package com.example.storereservation.domain.reservation.controller;
 
 import com.example.storereservation.domain.partner.persist.PartnerEntity;
+import com.example.storereservation.domain.reservation.dto.BulkChangeReservation;
 import com.example.storereservation.domain.reservation.dto.ChangeReservationInput;
+import com.example.storereservation.domain.reservation.dto.KioskReservation;
 import com.example.storereservation.domain.reservation.dto.ReservationDto;
+import com.example.storereservation.domain.reservation.event.ReservationEventRelay;
 import com.example.storereservation.domain.reservation.service.ReservationService;
 import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import com.example.storereservation.global.dto.CursorPage;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Objects;
 
 @Slf4j
@@ -25,6 +32,7 @@ import java.util.Objects;
 public class ReservationPartnerController {
 
     private final ReservationService reservationService;
+    private final ReservationEventRelay reservationEventRelay;
 
     /**
      * 파트너 - 예약 내역 모두 보기
@@ -62,6 +70,43 @@ public class ReservationPartnerController {
         return ResponseEntity.ok(reservationList);
     }
 
+    /**
+     * 파트너 - 예약 내역 cursor 조회
+     * - offset 페이징과 달리 페이지가 깊어져도 조회 속도가 일정하다.
+     * @param status 예약 진행 상태 (optional)
+     * @param date 예약 날짜 (optional)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param partner 로그인 된 파트너
+     * @return 예약 내역 cursor 페이지
+     */
+    @ApiOperation(value = "예약 내역 cursor 조회", notes = "응답의 nextCursor를 cursor로 전달하면 다음 페이지가 조회된다. \n" +
+            "STATUS : REQUESTING, REFUSED, CONFIRM, ARRIVED, USE_COMPLETE, NO_SHOW")
+    @PreAuthorize("hasRole('ROLE_PARTNER')")
+    @GetMapping("/cursor-list")
+    public ResponseEntity<CursorPage<ReservationDto>> reservationCursorListForPartner(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal PartnerEntity partner) {
+
+        CursorPage<ReservationDto> reservationList;
+
+        if (Objects.isNull(status) && Objects.isNull(date)) {
+            reservationList = reservationService.cursorListForPartner(partner.getPartnerId(), cursor);
+        } else if (Objects.nonNull(status) && Objects.isNull(date)) {
+            reservationList = reservationService.cursorListForPartnerByStatus(
+                    partner.getPartnerId(), ReservationStatus.of(status), cursor);
+        } else if (Objects.nonNull(date) && Objects.isNull(status)) {
+            reservationList = reservationService.cursorListForPartnerByDate(
+                    partner.getPartnerId(), date, cursor);
+        } else {
+            reservationList = reservationService.cursorListForPartnerByStatusAndDate(
+                    partner.getPartnerId(), ReservationStatus.of(status), date, cursor);
+        }
+
+        return ResponseEntity.ok(reservationList);
+    }
+
     /**
      * 파트너 - 예약 상태 변경
      * @param id 예약 ID
@@ -69,7 +114,8 @@ public class ReservationPartnerController {
      * @param partner 로그인 된 파트너
      * @return 예약 상세 정보
      */
-    @ApiOperation(value = "예약 상태 변경", notes = "status : REQUESTING, REFUSED, CONFIRM, ARRIVED, USE_COMPLETE, NO_SHOW")
+    @ApiOperation(value = "예약 상태 변경", notes = "status : REFUSED, CONFIRM, ARRIVED, USE_COMPLETE, NO_SHOW \n" +
+            "REQUESTING -> CONFIRM, REFUSED / CONFIRM -> ARRIVED, NO_SHOW, REFUSED / ARRIVED -> USE_COMPLETE")
     @PreAuthorize("hasRole('ROLE_PARTNER')")
     @PutMapping("/{reservationId}")
     public ResponseEntity<ReservationDto> changeReservationStatus(
@@ -77,9 +123,62 @@ public class ReservationPartnerController {
             @RequestBody ChangeReservationInput input,
             @AuthenticationPrincipal PartnerEntity partner) {
 
-        reservationService.changeReservationStatus(partner.getPartnerId(), id, ReservationStatus.of(input.getStatus()));
-        ReservationDto updatedReservation = reservationService.reservationDetail(id, partner.getPartnerId());
+        ReservationDto updatedReservation = reservationService.changeReservationStatus(
+                partner.getPartnerId(), id, ReservationStatus.of(input.getStatus()));
 
         return ResponseEntity.ok(updatedReservation);
     }
+
+    /**
+     * 파트너 - 예약 상태 일괄 변경
+     * @param request 변경할 상태와 대상 (예약 ID 목록 또는 날짜 + 현재 상태)
+     * @param partner 로그인 된 파트너
+     * @return 예약 ID 별 변경 결과
+     */
+    @ApiOperation(value = "예약 상태 일괄 변경", notes = "reservationIds 또는 date(+ fromStatus)로 대상을 지정한다. (최대 500건) \n" +
+            "결과 : UPDATED, NOT_FOUND, NO_AUTHORITY, ILLEGAL_TRANSITION")
+    @PreAuthorize("hasRole('ROLE_PARTNER')")
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkChangeReservation.Response> changeReservationStatusBulk(
+            @RequestBody BulkChangeReservation.Request request,
+            @AuthenticationPrincipal PartnerEntity partner) {
+
+        BulkChangeReservation.Response response =
+                reservationService.changeReservationStatusBulk(partner.getPartnerId(), request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 파트너(키오스크) - 전화번호 뒷 4자리로 오늘의 확정 예약 조회
+     * @param phoneNumberLast4 전화번호 마지막 4자리
+     * @param partner 로그인 된 파트너
+     * @return 일치하는 예약 목록
+     */
+    @ApiOperation(value = "키오스크 예약 조회", notes = "오늘의 CONFIRM 예약 중 전화번호 뒷 4자리가 일치하는 예약을 조회한다.")
+    @PreAuthorize("hasRole('ROLE_PARTNER')")
+    @GetMapping("/kiosk")
+    public ResponseEntity<List<KioskReservation>> kioskLookup(
+            @RequestParam String phoneNumberLast4,
+            @AuthenticationPrincipal PartnerEntity partner) {
+
+        return ResponseEntity.ok(reservationService.kioskLookup(partner.getPartnerId(), phoneNumberLast4));
+    }
+
+    /**
+     * 파트너 - 예약 변경 이벤트 구독 (Server-Sent Events)
+     * - 새 예약 요청, 상태 변경, 도착 확인 이벤트를 실시간으로 받는다. (목록 polling 대체)
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (Last-Event-ID 헤더)
+     * @param partner 로그인 된 파트너
+     * @return SSE 연결
+     */
+    @ApiOperation(value = "예약 변경 이벤트 구독", notes = "text/event-stream 으로 예약 변경 이벤트(event: reservation)를 전송한다. \n" +
+            "재연결 시 Last-Event-ID 헤더를 보내면 이후 이벤트부터 다시 받을 수 있다.")
+    @PreAuthorize("hasRole('ROLE_PARTNER')")
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeReservationEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @AuthenticationPrincipal PartnerEntity partner) {
+
+        return reservationEventRelay.subscribe(partner.getPartnerId(), lastEventId);
+    }
 }
@@ -4,9 +4,12 @@ import com.example.storereservation.domain.reservation.dto.MakeReservation;
 import com.example.storereservation.domain.reservation.dto.ReservationDto;
 import com.example.storereservation.domain.reservation.dto.UserArrivedComplete;
 import com.example.storereservation.domain.reservation.dto.UserArrivedInput;
+import com.example.storereservation.domain.reservation.dto.WaitlistDto;
 import com.example.storereservation.domain.reservation.service.ReservationService;
+import com.example.storereservation.domain.reservation.service.WaitlistService;
 import com.example.storereservation.domain.reservation.type.ReservationStatus;
 import com.example.storereservation.domain.user.persist.UserEntity;
+import com.example.storereservation.global.dto.CursorPage;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +19,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RequiredArgsConstructor
 @RestController
@@ -23,22 +28,25 @@ import org.springframework.web.bind.annotation.*;
 public class ReservationUserController {
 
     private final ReservationService reservationService;
+    private final WaitlistService waitlistService;
 
     /**
      * 예약 요청
      * @param request 예약 요청 정보
+     * @param idempotencyKey 재시도 시 같은 값을 보내면 처음 예약 결과를 다시 반환 (optional)
      * @param user 로그인 된 유저
      * @return 예약 응답 정보
      */
-    @ApiOperation(value = "예약 요청")
+    @ApiOperation(value = "예약 요청", notes = "Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청은 새로 예약되지 않고 처음 예약 결과가 반환된다.")
     @PreAuthorize("hasRole('ROLE_USER')")
     @PostMapping("/request")
     public ResponseEntity<MakeReservation.Response> reservation(
             @RequestBody MakeReservation.Request request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal UserEntity user) {
 
         request.setUserId(user.getUserId());
-        ReservationDto reservationDto = reservationService.makeReservation(request);
+        ReservationDto reservationDto = reservationService.makeReservationIdempotent(request, idempotencyKey);
 
         return ResponseEntity.ok(MakeReservation.Response.fromDto(reservationDto));
     }
@@ -80,6 +88,44 @@ public class ReservationUserController {
         return ResponseEntity.ok(reservationList);
     }
 
+    /**
+     * 유저 - 예약 내역 cursor 조회
+     * 정렬 : 최신 순
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param user 로그인 된 유저
+     * @return 예약 내역 cursor 페이지
+     */
+    @ApiOperation(value = "예약 내역 cursor 조회", notes = "응답의 nextCursor를 cursor로 전달하면 다음 페이지가 조회된다.")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @GetMapping("/cursor-list")
+    public ResponseEntity<CursorPage<ReservationDto>> reservationCursorListForUser(
+            @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal UserEntity user) {
+
+        CursorPage<ReservationDto> reservationList = reservationService.cursorListForUser(user.getUserId(), cursor);
+        return ResponseEntity.ok(reservationList);
+    }
+
+    /**
+     * 유저 - 예약 내역 cursor 조회 (status별)
+     * @param status 예약 진행 상태 ReservationStatus(enum)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param user 로그인 된 유저
+     * @return 상태별 예약 내역 cursor 페이지
+     */
+    @ApiOperation(value = "예약 내역 cursor 조회 (status 별 조회)", notes = "STATUS : REQUESTING, REFUSED, CONFIRM, ARRIVED, USE_COMPLETE, NO_SHOW")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @GetMapping("/cursor-list/{status}")
+    public ResponseEntity<CursorPage<ReservationDto>> reservationCursorListForUserByStatus(
+            @PathVariable ReservationStatus status,
+            @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal UserEntity user) {
+
+        CursorPage<ReservationDto> reservationList =
+                reservationService.cursorListForUserByStatus(user.getUserId(), status, cursor);
+        return ResponseEntity.ok(reservationList);
+    }
+
     /**
      * 매장 도착 확인
      * @param input (reservationId, phoneNumberLast4)
@@ -91,4 +137,50 @@ public class ReservationUserController {
         ReservationDto reservationDto = reservationService.arrivedCheck(input.getReservationId(), input.getPhoneNumberLast4());
         return ResponseEntity.ok(new UserArrivedComplete(reservationDto));
     }
+
+    /**
+     * 예약 대기 등록
+     * - 좌석이 가득 찬 시간대에 대기하면, 좌석이 생길 때 순서대로 예약 요청(REQUESTING)으로 자동 전환된다.
+     * @param request 예약 요청 정보
+     * @param user 로그인 된 유저
+     * @return 대기 정보 (대기 순서 포함)
+     */
+    @ApiOperation(value = "예약 대기 등록", notes = "좌석이 가득 찬 시간대에만 등록할 수 있다. 좌석이 생기면 등록 순서대로 예약 요청으로 전환된다.")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @PostMapping("/waitlist")
+    public ResponseEntity<WaitlistDto> joinWaitlist(
+            @RequestBody MakeReservation.Request request,
+            @AuthenticationPrincipal UserEntity user) {
+
+        request.setUserId(user.getUserId());
+        return ResponseEntity.ok(waitlistService.join(request));
+    }
+
+    /**
+     * 대기 중인 목록
+     * @param user 로그인 된 유저
+     * @return 대기 목록 (대기 순서 포함)
+     */
+    @ApiOperation(value = "대기 중인 목록")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @GetMapping("/waitlist")
+    public ResponseEntity<List<WaitlistDto>> waitingList(@AuthenticationPrincipal UserEntity user) {
+        return ResponseEntity.ok(waitlistService.waitingList(user.getUserId()));
+    }
+
+    /**
+     * 예약 대기 취소
+     * @param waitlistId 대기 ID
+     * @param user 로그인 된 유저
+     */
+    @ApiOperation(value = "예약 대기 취소")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @DeleteMapping("/waitlist/{waitlistId}")
+    public ResponseEntity<Void> cancelWaitlist(
+            @PathVariable("waitlistId") Long waitlistId,
+            @AuthenticationPrincipal UserEntity user) {
+
+        waitlistService.cancel(user.getUserId(), waitlistId);
+        return ResponseEntity.ok().build();
+    }
 }
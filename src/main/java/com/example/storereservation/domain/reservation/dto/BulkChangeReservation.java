@@ -0,0 +1,48 @@
+package com.example.storereservation.domain.reservation.dto;
+
+import com.example.storereservation.domain.reservation.type.BulkChangeResult;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class BulkChangeReservation {
+
+    /**
+     * 예약 ID 목록 또는 (날짜 + 현재 상태) 조건 중 하나로 대상을 지정한다.
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Request {
+        private String status;
+        private List<Long> reservationIds;
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        private LocalDate date;
+        private String fromStatus;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        private String status;
+        private int updatedCount;
+        private List<Result> results;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Result {
+        private Long reservationId;
+        private BulkChangeResult result;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.storereservation.domain.reservation.dto;
+
+import com.example.storereservation.domain.reservation.board.TodayReservationBoard;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class KioskReservation {
+    private Long reservationId;
+    private String userId;
+    private Integer people;
+    private LocalDateTime time;
+
+    public static KioskReservation fromEntry(TodayReservationBoard.BoardEntry entry) {
+        return KioskReservation.builder()
+                .reservationId(entry.getId())
+                .userId(entry.getUserId())
+                .people(entry.getPeople())
+                .time(entry.getTime())
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.storereservation.domain.reservation.dto;
+
+import com.example.storereservation.domain.reservation.persist.ReservationEntity;
+import com.example.storereservation.global.exception.ErrorCode;
+import com.example.storereservation.global.exception.MyException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 예약 목록 cursor (time, id)
+ * - 클라이언트에는 Base64 문자열로 전달된다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationCursor {
+    private static final String DELIMITER = "|";
+
+    /**
+     * 내림차순 첫 페이지 (모든 예약보다 뒤)
+     */
+    private static final ReservationCursor DESC_FIRST =
+            new ReservationCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    /**
+     * 오름차순 첫 페이지 (모든 예약보다 앞)
+     */
+    private static final ReservationCursor ASC_FIRST =
+            new ReservationCursor(LocalDateTime.of(1000, 1, 1, 0, 0), 0L);
+
+    private final LocalDateTime time;
+    private final Long id;
+
+    public static ReservationCursor descending(String cursor) {
+        return StringUtils.hasText(cursor) ? decode(cursor) : DESC_FIRST;
+    }
+
+    public static ReservationCursor ascending(String cursor) {
+        return StringUtils.hasText(cursor) ? decode(cursor) : ASC_FIRST;
+    }
+
+    public static String encode(ReservationEntity reservation) {
+        String raw = reservation.getTime() + DELIMITER + reservation.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ReservationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new ReservationCursor(
+                    LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new MyException(ErrorCode.CURSOR_ILLEGAL_ARGUMENT);
+        }
+    }
+}
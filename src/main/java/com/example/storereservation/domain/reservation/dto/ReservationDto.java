@@ -1,5 +1,6 @@
 package com.example.storereservation.domain.reservation.dto;
 
+import com.example.storereservation.domain.reservation.persist.ReservationArchiveEntity;
 import com.example.storereservation.domain.reservation.persist.ReservationEntity;
 import com.example.storereservation.domain.reservation.type.ReservationStatus;
 import lombok.Builder;
@@ -37,4 +38,8 @@ public class ReservationDto {
                 .time(reservationEntity.getTime())
                 .build();
     }
+
+    public static ReservationDto fromArchive(ReservationArchiveEntity archiveEntity) {
+        return fromEntity(archiveEntity.toReservation());
+    }
 }
@@ -0,0 +1,39 @@
+package com.example.storereservation.domain.reservation.dto;
+
+import com.example.storereservation.domain.reservation.persist.ReservationOutboxEntity;
+import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReservationEvent {
+    private Long eventId;
+    private Long reservationId;
+    private String userId;
+    private Integer people;
+    private ReservationStatus status;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime time;
+    private LocalDateTime createdAt;
+
+    public static ReservationEvent fromEntity(ReservationOutboxEntity outbox) {
+        return ReservationEvent.builder()
+                .eventId(outbox.getId())
+                .reservationId(outbox.getReservationId())
+                .userId(outbox.getUserId())
+                .people(outbox.getPeople())
+                .status(outbox.getStatus())
+                .time(outbox.getTime())
+                .createdAt(outbox.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.storereservation.domain.reservation.dto;
+
+import com.example.storereservation.domain.reservation.persist.WaitlistEntity;
+import com.example.storereservation.domain.reservation.type.WaitlistStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WaitlistDto {
+    private Long id;
+    private String userId;
+    private String storeName;
+    private Integer people;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime time;
+    private WaitlistStatus status;
+
+    /**
+     * 대기 순서 (1부터, 대기 중이 아니면 null)
+     */
+    private Integer position;
+
+    public static WaitlistDto fromEntity(WaitlistEntity waitlist, Integer position) {
+        return WaitlistDto.builder()
+                .id(waitlist.getId())
+                .userId(waitlist.getUserId())
+                .storeName(waitlist.getStoreName())
+                .people(waitlist.getPeople())
+                .time(waitlist.getTime())
+                .status(waitlist.getStatus())
+                .position(position)
+                .build();
+    }
+}
@@ -0,0 +1,338 @@
+package com.example.storereservation.domain.reservation.event;
+
+import com.example.storereservation.domain.reservation.dto.ReservationEvent;
+import com.example.storereservation.domain.reservation.persist.ReservationOutboxEntity;
+import com.example.storereservation.domain.reservation.persist.ReservationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * 예약 outbox -> 파트너 SSE 전송
+ * - outbox를 짧은 주기로 한 번에 조회해서 partnerId 별로 연결된 SseEmitter에 전송한다.
+ *   (연결된 파트너 수와 관계없이 주기마다 쿼리 한 번)
+ * - 재연결 시 Last-Event-ID 이후의 이벤트를 outbox에서 다시 보내준다.
+ *   구독 등록 시점의 relay 위치(high-water mark)까지는 재전송이, 그 이후는 relay가 보낸다. (중복 없음)
+ *   재전송이 끝날 때까지 relay가 보낼 이벤트는 구독자별로 모아 두었다가 재전송 후에 보낸다. (순서 유지)
+ * - 전송 대상은 deliveryLock 안에서 정하고, 실제 전송은 lock 밖에서 한다. (느린 연결이 다른 파트너 전송을 막지 않도록)
+ * - IDENTITY 값은 커밋 순서와 다를 수 있으므로 비어 있는 ID(gap)는 gap-wait-ms 동안 그 앞에서 기다리고,
+ *   그래도 채워지지 않으면 열린 gap으로 남겨 매 주기 다시 조회한다. (늦게 커밋된 이벤트도 전송)
+ *   gap-retention-ms가 지나도 채워지지 않으면 롤백된 ID로 보고 버린다.
+ * - 서버마다 각자 outbox를 읽으므로 여러 대로 실행해도 자신에게 연결된 파트너에게만 전송한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationEventRelay {
+    private static final String EVENT_NAME = "reservation";
+
+    @Value("${reservation.events.batch-size:500}")
+    private int batchSize;
+
+    @Value("${reservation.events.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMillis;
+
+    @Value("${reservation.events.gap-wait-ms:1000}")
+    private long gapWaitMillis;
+
+    @Value("${reservation.events.gap-retention-ms:600000}")
+    private long gapRetentionMillis;
+
+    @Value("${reservation.events.retention-hours:24}")
+    private long retentionHours;
+
+    private final ReservationOutboxRepository reservationOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * relay가 전송한 가장 큰 이벤트 ID, 아직 채워지지 않은 ID (ID -> 발견 시간)
+     * - 두 값은 deliveryLock 안에서만 바뀐다. (구독 등록과 전송 순서를 맞추기 위해)
+     */
+    private volatile long lastEventId = -1L;
+    private final Map<Long, Long> openGaps = new ConcurrentHashMap<>();
+    private final Object deliveryLock = new Object();
+    private long gapDetectedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        lastEventId = reservationOutboxRepository.findMaxId();
+        log.info("ReservationEventRelay start => lastEventId: {}", lastEventId);
+    }
+
+    /**
+     * 파트너 구독
+     * @param partnerId 파트너 ID
+     * @param lastEventId 마지막으로 받은 이벤트 ID (재연결 시, 없으면 null)
+     */
+    public SseEmitter subscribe(String partnerId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Set<Subscriber> partnerSubscribers = subscribers.computeIfAbsent(partnerId, key -> new CopyOnWriteArraySet<>());
+
+        Subscriber subscriber;
+        synchronized (deliveryLock) {
+            Set<Long> pendingGaps = ConcurrentHashMap.newKeySet();
+            if (lastEventId != null) {
+                openGaps.keySet().stream().filter(id -> id > lastEventId).forEach(pendingGaps::add);
+            }
+            subscriber = new Subscriber(emitter, this.lastEventId, pendingGaps, lastEventId != null);
+            partnerSubscribers.add(subscriber);
+        }
+
+        Runnable remove = () -> partnerSubscribers.remove(subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        if (lastEventId != null) {
+            try {
+                replay(partnerId, lastEventId, subscriber);
+            } finally {
+                subscriber.finishReplay();
+            }
+        } else {
+            sendComment(emitter, "connected");
+        }
+        return emitter;
+    }
+
+    /**
+     * 재연결한 구독자에게 (Last-Event-ID, high-water mark] 범위의 이벤트 재전송
+     */
+    private void replay(String partnerId, long fromEventId, Subscriber subscriber) {
+        long after = fromEventId;
+        while (after < subscriber.highWaterMark) {
+            List<ReservationOutboxEntity> events = reservationOutboxRepository.findByPartnerIdAndIdBetweenOrderById(
+                    partnerId, after + 1, subscriber.highWaterMark, PageRequest.of(0, batchSize));
+            for (ReservationOutboxEntity outbox : events) {
+                if (subscriber.claimReplay(outbox.getId())) {
+                    send(subscriber.emitter, outbox);
+                }
+                after = outbox.getId();
+            }
+            if (events.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 새 outbox 이벤트를 구독 중인 파트너에게 전송
+     * - 열린 gap을 먼저 다시 조회해서 늦게 커밋된 이벤트를 보낸 후, lastEventId 이후를 조회한다.
+     * - 다음 이벤트 앞에 gap이 있으면 gap-wait-ms 동안은 그 앞에서 멈추고 (순서 유지),
+     *   기다려도 채워지지 않으면 gap을 열린 채로 두고 넘어간다.
+     */
+    @Scheduled(fixedDelayString = "${reservation.events.poll-interval-ms:200}")
+    public void relay() {
+        if (lastEventId < 0) {
+            return;
+        }
+        relayOpenGaps();
+        while (true) {
+            List<ReservationOutboxEntity> events = reservationOutboxRepository.findByIdGreaterThanOrderById(
+                    lastEventId, PageRequest.of(0, batchSize));
+            for (ReservationOutboxEntity outbox : events) {
+                if (waitForGap(outbox.getId())) {
+                    return;
+                }
+                List<Subscriber> targets;
+                synchronized (deliveryLock) {
+                    long now = System.currentTimeMillis();
+                    // 한 번에 열어 두는 gap은 batch-size개까지 (ID가 크게 건너뛴 경우)
+                    for (long gap = Math.max(lastEventId + 1, outbox.getId() - batchSize); gap < outbox.getId(); gap++) {
+                        openGaps.put(gap, now);
+                    }
+                    targets = claimTargets(outbox);
+                    lastEventId = outbox.getId();
+                }
+                targets.forEach(subscriber -> subscriber.offer(outbox));
+            }
+            if (events.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 열린 gap 다시 조회 - 채워진 ID는 전송하고, gap-retention-ms가 지난 ID는 버린다.
+     */
+    private void relayOpenGaps() {
+        if (openGaps.isEmpty()) {
+            return;
+        }
+        List<ReservationOutboxEntity> filled = reservationOutboxRepository.findAllById(openGaps.keySet());
+        filled.sort(Comparator.comparing(ReservationOutboxEntity::getId));
+        Map<ReservationOutboxEntity, List<Subscriber>> deliveries = new LinkedHashMap<>();
+        synchronized (deliveryLock) {
+            for (ReservationOutboxEntity outbox : filled) {
+                if (openGaps.remove(outbox.getId()) != null) {
+                    deliveries.put(outbox, claimTargets(outbox));
+                }
+            }
+            long expiredBefore = System.currentTimeMillis() - gapRetentionMillis;
+            openGaps.entrySet().removeIf(gap -> {
+                if (gap.getValue() < expiredBefore) {
+                    log.warn("Reservation outbox gap expired => id: {}", gap.getKey());
+                    return true;
+                }
+                return false;
+            });
+        }
+        deliveries.forEach((outbox, targets) -> targets.forEach(subscriber -> subscriber.offer(outbox)));
+    }
+
+    /**
+     * 이벤트를 보낼 파트너의 구독자 선택 (deliveryLock 안에서 호출, 전송은 lock 밖에서)
+     */
+    private List<Subscriber> claimTargets(ReservationOutboxEntity outbox) {
+        List<Subscriber> targets = new ArrayList<>();
+        Set<Subscriber> partnerSubscribers = subscribers.get(outbox.getPartnerId());
+        if (partnerSubscribers == null) {
+            return targets;
+        }
+        for (Subscriber subscriber : partnerSubscribers) {
+            if (subscriber.claimRelay(outbox.getId())) {
+                targets.add(subscriber);
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * 다음 이벤트 ID 앞에 비어 있는 ID가 있고 아직 기다려야 하면 true
+     */
+    private boolean waitForGap(long nextEventId) {
+        if (nextEventId == lastEventId + 1) {
+            gapDetectedAt = 0L;
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (gapDetectedAt == 0L) {
+            gapDetectedAt = now;
+        }
+        if (now - gapDetectedAt < gapWaitMillis) {
+            return true;
+        }
+        gapDetectedAt = 0L;
+        return false;
+    }
+
+    /**
+     * 끊어진 연결을 정리하기 위한 heartbeat
+     */
+    @Scheduled(fixedDelayString = "${reservation.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(partnerSubscribers ->
+                partnerSubscribers.forEach(subscriber -> sendComment(subscriber.emitter, "ping")));
+    }
+
+    /**
+     * 보관 기간이 지난 outbox 삭제
+     */
+    @Scheduled(cron = "${reservation.events.purge-cron:0 0 * * * *}")
+    public void purge() {
+        Integer deleted = transactionTemplate.execute(status -> reservationOutboxRepository
+                .deleteByCreatedAtBefore(LocalDateTime.now().minusHours(retentionHours)));
+        log.info("Reservation outbox purge => deleted: {}", deleted);
+    }
+
+    private void send(SseEmitter emitter, ReservationOutboxEntity outbox) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(outbox.getId()))
+                    .name(EVENT_NAME)
+                    .data(ReservationEvent.fromEntity(outbox)));
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void sendComment(SseEmitter emitter, String comment) {
+        try {
+            emitter.send(SseEmitter.event().comment(comment));
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * 구독자 (SseEmitter + 등록 시점의 relay 위치)
+     * - highWaterMark 이후의 이벤트는 relay만 보낸다.
+     * - highWaterMark 이하의 이벤트는 재전송만 보낸다. 단, 등록 시 열린 gap이었던 ID(pendingGaps)는
+     *   재전송과 relay 중 먼저 가져간 쪽만 보낸다.
+     * - 재전송 중(replaying)에 relay가 넘긴 이벤트는 buffer에 모았다가 재전송이 끝나면 순서대로 보낸다.
+     */
+    private class Subscriber {
+        private final SseEmitter emitter;
+        private final long highWaterMark;
+        private final Set<Long> pendingGaps;
+        private final List<ReservationOutboxEntity> buffer = new ArrayList<>();
+        private boolean replaying;
+
+        private Subscriber(SseEmitter emitter, long highWaterMark, Set<Long> pendingGaps, boolean replaying) {
+            this.emitter = emitter;
+            this.highWaterMark = highWaterMark;
+            this.pendingGaps = pendingGaps;
+            this.replaying = replaying;
+        }
+
+        /**
+         * relay 전송 - 재전송 중이면 buffer에 모아 둔다.
+         */
+        private void offer(ReservationOutboxEntity outbox) {
+            synchronized (this) {
+                if (replaying) {
+                    buffer.add(outbox);
+                    return;
+                }
+            }
+            send(emitter, outbox);
+        }
+
+        /**
+         * 재전송 종료 - 모아 둔 이벤트를 보낸 후 relay가 직접 보내도록 전환
+         * (보내는 동안 새로 모인 이벤트가 없을 때까지 반복)
+         */
+        private void finishReplay() {
+            while (true) {
+                List<ReservationOutboxEntity> buffered;
+                synchronized (this) {
+                    if (buffer.isEmpty()) {
+                        replaying = false;
+                        return;
+                    }
+                    buffered = new ArrayList<>(buffer);
+                    buffer.clear();
+                }
+                buffered.forEach(outbox -> send(emitter, outbox));
+            }
+        }
+
+        private boolean claimRelay(long eventId) {
+            return eventId > highWaterMark || pendingGaps.remove(eventId);
+        }
+
+        private boolean claimReplay(long eventId) {
+            return !pendingGaps.contains(eventId) || pendingGaps.remove(eventId);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.storereservation.domain.reservation.idempotency;
+
+import com.example.storereservation.domain.reservation.dto.MakeReservation;
+import com.example.storereservation.domain.reservation.dto.ReservationDto;
+import com.example.storereservation.global.exception.ErrorCode;
+import com.example.storereservation.global.exception.MyException;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * 예약 요청 Idempotency-Key 중복 제거 window (메모리)
+ * - (userId, Idempotency-Key) 별로 처음 실행된 예약 요청의 결과를 ttl-minutes 동안 max-entries 개까지 보관한다.
+ * - 같은 키의 요청이 동시에 들어오면 먼저 들어온 요청의 결과를 기다려서 같은 결과를 반환한다.
+ * - 실패한 요청은 보관하지 않는다. (다시 요청하면 새로 실행)
+ * - 다른 서버에서 처리된 요청은 ReservationService가 DB(reservation_idempotency)로 확인한다.
+ */
+@Slf4j
+@Component
+public class ReservationIdempotencyWindow {
+
+    @Value("${reservation.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${reservation.idempotency.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 같은 키로 처리된 결과가 있으면 반환하고, 없으면 action을 실행해서 결과를 보관
+     * @param userId 유저 ID
+     * @param idempotencyKey Idempotency-Key
+     * @param request 예약 요청 (같은 키로 다른 예약을 요청하는지 확인용)
+     * @param action 예약 실행
+     * @return 처음 실행된 예약 결과
+     */
+    public ReservationDto execute(String userId, String idempotencyKey, MakeReservation.Request request,
+                                  Supplier<ReservationDto> action) {
+        String key = userId + ":" + idempotencyKey;
+        Entry entry = new Entry(key, new CompletableFuture<>(), request, LocalDateTime.now().plusMinutes(ttlMinutes));
+
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                return run(key, entry, action);
+            }
+            if (existing.expiresAt.isBefore(LocalDateTime.now())) {
+                entries.remove(key, existing);
+                continue;
+            }
+            if (!existing.isSameRequest(request)) {
+                throw new MyException(ErrorCode.RESERVATION_IDEMPOTENCY_KEY_REUSED);
+            }
+            try {
+                log.info("Idempotent replay => userId: {}, key: {}", userId, idempotencyKey);
+                return existing.result.join();
+            } catch (CompletionException e) {
+                // 먼저 들어온 요청이 실패하면 이 요청이 다시 실행한다.
+                entries.remove(key, existing);
+            }
+        }
+    }
+
+    private ReservationDto run(String key, Entry entry, Supplier<ReservationDto> action) {
+        try {
+            ReservationDto result = action.get();
+            entry.result.complete(result);
+            insertionOrder.add(entry);
+            evictOverflow();
+            return result;
+        } catch (RuntimeException e) {
+            entries.remove(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * max-entries를 넘으면 오래된 키부터 제거
+     * - 같은 키로 새로 보관된 결과가 있으면 지우지 않는다. (만료 / 실패 후 다시 실행된 경우)
+     */
+    private void evictOverflow() {
+        while (entries.size() > maxEntries) {
+            Entry oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            entries.remove(oldest.key, oldest);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final String key;
+        private final CompletableFuture<ReservationDto> result;
+        private final MakeReservation.Request request;
+        private final LocalDateTime expiresAt;
+
+        private boolean isSameRequest(MakeReservation.Request other) {
+            return Objects.equals(request.getStoreName(), other.getStoreName())
+                    && Objects.equals(request.getPeople(), other.getPeople())
+                    && Objects.equals(request.getDate(), other.getDate())
+                    && Objects.equals(request.getTime(), other.getTime());
+        }
+    }
+}
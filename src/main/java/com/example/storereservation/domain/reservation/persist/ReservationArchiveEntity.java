@@ -0,0 +1,61 @@
+package com.example.storereservation.domain.reservation.persist;
+
+import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 종료 상태(REFUSED, USE_COMPLETE, NO_SHOW) 예약
+ * - ReservationArchiver가 RESERVATION 테이블에서 옮긴다. (ID 유지)
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity(name = "RESERVATION_ARCHIVE")
+@Table(indexes = {
+        @Index(name = "idx_reservation_archive_partner_time", columnList = "partner_id, time, id"),
+        @Index(name = "idx_reservation_archive_user_time", columnList = "user_id, time, id")
+})
+public class ReservationArchiveEntity {
+
+    @Id
+    private Long id;
+
+    private String userId;
+    private String phone;
+    private String partnerId;
+    private Long storeId;
+    private String storeName;
+    private Integer people;
+
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+    private LocalDateTime statusUpdatedAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime time;
+    private LocalDateTime archivedAt;
+
+    /**
+     * 조회 결과를 RESERVATION 조회 결과와 합치기 위해 ReservationEntity로 변환 (영속 상태 아님)
+     */
+    public ReservationEntity toReservation() {
+        return ReservationEntity.builder()
+                .id(id)
+                .userId(userId)
+                .phone(phone)
+                .partnerId(partnerId)
+                .storeId(storeId)
+                .storeName(storeName)
+                .people(people)
+                .status(status)
+                .statusUpdatedAt(statusUpdatedAt)
+                .time(time)
+                .build();
+    }
+}
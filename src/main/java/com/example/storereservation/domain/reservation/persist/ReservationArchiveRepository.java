@@ -0,0 +1,92 @@
+package com.example.storereservation.domain.reservation.persist;
+
+import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReservationArchiveRepository extends JpaRepository<ReservationArchiveEntity, Long> {
+
+    Page<ReservationArchiveEntity> findByUserIdOrderByTimeDescIdDesc(String userId, Pageable pageable);
+
+    Page<ReservationArchiveEntity> findByUserIdAndStatusOrderByTimeAscIdAsc(
+            String userId, ReservationStatus status, Pageable pageable);
+
+    Page<ReservationArchiveEntity> findByPartnerIdOrderByTimeDescIdDesc(String partnerId, Pageable pageable);
+
+    Page<ReservationArchiveEntity> findByPartnerIdAndStatusOrderByTimeAscIdAsc(
+            String partnerId, ReservationStatus status, Pageable pageable);
+
+    List<ReservationArchiveEntity> findByPartnerIdAndTimeBetweenOrderByTime(
+            String partnerId, LocalDateTime start, LocalDateTime end);
+
+    List<ReservationArchiveEntity> findByPartnerIdAndStatusAndTimeBetweenOrderByTime(
+            String partnerId, ReservationStatus status, LocalDateTime start, LocalDateTime end);
+
+    /*
+     * cursor(seek) 조회 - ReservationRepository의 seek 조회와 같은 조건
+     */
+
+    @Query("select r from RESERVATION_ARCHIVE r where r.userId = :userId"
+            + " and (r.time < :time or (r.time = :time and r.id < :id))"
+            + " order by r.time desc, r.id desc")
+    List<ReservationArchiveEntity> seekByUserId(
+            @Param("userId") String userId, @Param("time") LocalDateTime time, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r from RESERVATION_ARCHIVE r where r.userId = :userId and r.status = :status"
+            + " and (r.time > :time or (r.time = :time and r.id > :id))"
+            + " order by r.time, r.id")
+    List<ReservationArchiveEntity> seekByUserIdAndStatus(
+            @Param("userId") String userId, @Param("status") ReservationStatus status,
+            @Param("time") LocalDateTime time, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r from RESERVATION_ARCHIVE r where r.partnerId = :partnerId"
+            + " and (r.time < :time or (r.time = :time and r.id < :id))"
+            + " order by r.time desc, r.id desc")
+    List<ReservationArchiveEntity> seekByPartnerId(
+            @Param("partnerId") String partnerId, @Param("time") LocalDateTime time, @Param("id") Long id,
+            Pageable pageable);
+
+    @Query("select r from RESERVATION_ARCHIVE r where r.partnerId = :partnerId and r.status = :status"
+            + " and (r.time > :time or (r.time = :time and r.id > :id))"
+            + " order by r.time, r.id")
+    List<ReservationArchiveEntity> seekByPartnerIdAndStatus(
+            @Param("partnerId") String partnerId, @Param("status") ReservationStatus status,
+            @Param("time") LocalDateTime time, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r from RESERVATION_ARCHIVE r where r.partnerId = :partnerId and r.time between :start and :end"
+            + " and (r.time > :time or (r.time = :time and r.id > :id))"
+            + " order by r.time, r.id")
+    List<ReservationArchiveEntity> seekByPartnerIdAndTimeBetween(
+            @Param("partnerId") String partnerId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+            @Param("time") LocalDateTime time, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r from RESERVATION_ARCHIVE r where r.partnerId = :partnerId and r.status = :status"
+            + " and r.time between :start and :end"
+            + " and (r.time > :time or (r.time = :time and r.id > :id))"
+            + " order by r.time, r.id")
+    List<ReservationArchiveEntity> seekByPartnerIdAndStatusAndTimeBetween(
+            @Param("partnerId") String partnerId, @Param("status") ReservationStatus status,
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+            @Param("time") LocalDateTime time, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * RESERVATION 테이블의 예약을 archive 테이블로 복사 (INSERT ... SELECT)
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO reservation_archive"
+            + " (id, user_id, phone, partner_id, store_id, store_name, people, status, status_updated_at, time, archived_at)"
+            + " SELECT id, user_id, phone, partner_id, store_id, store_name, people, status, status_updated_at, time, :now"
+            + " FROM reservation WHERE id IN (:ids)")
+    int copyFromReservation(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,287 @@
+package com.example.storereservation.domain.reservation.persist;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 예약 INSERT group commit
+ * - 동시에 들어온 예약 요청을 최대 max-wait-ms 동안 모아서 multi-row INSERT 한 번으로 저장한다.
+ * - ReservationEntity는 IDENTITY 전략이라 Hibernate batch insert가 불가능하므로 JDBC로 직접 저장한다.
+ * - 각 요청자는 CompletableFuture로 생성된 예약 ID를 받는다.
+ *   batch에 들어가기 전이면 cancel(false)로 취소할 수 있고, 취소된 요청은 저장하지 않는다.
+ * - 예약 요청 이벤트(reservation_outbox)와 Idempotency-Key(reservation_idempotency)도 같은 트랜잭션에서 저장한다.
+ *   (키가 중복되면 unique 제약 조건 위반으로 예약도 저장되지 않는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO reservation "
+            + "(user_id, phone, partner_id, store_id, store_name, people, status, status_updated_at, time) VALUES ";
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String OUTBOX_INSERT_SQL = "INSERT INTO reservation_outbox "
+            + "(partner_id, reservation_id, user_id, people, status, time, created_at) VALUES ";
+    private static final String OUTBOX_VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String IDEMPOTENCY_INSERT_SQL = "INSERT INTO reservation_idempotency "
+            + "(user_id, idempotency_key, reservation_id, created_at) VALUES ";
+    private static final String IDEMPOTENCY_VALUES_ROW = "(?, ?, ?, ?)";
+
+    @Value("${reservation.writer.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Value("${reservation.writer.max-wait-ms:5}")
+    private long maxWaitMillis;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<PendingInsert> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread writerThread;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runLoop, "reservation-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 종료 시 남아있는 요청을 모두 저장한 후 종료
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 예약 저장 요청
+     * @param reservation 저장할 예약 (id 없음)
+     * @return 저장된 예약 ID (저장이 시작된 후의 cancel은 false - 저장 결과를 기다려야 한다)
+     */
+    public CompletableFuture<Long> submit(ReservationEntity reservation) {
+        ClaimableFuture future = new ClaimableFuture();
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException("reservation writer is stopped"));
+            return future;
+        }
+        queue.add(new PendingInsert(reservation, future));
+        return future;
+    }
+
+    private void runLoop() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                batch.removeIf(pending -> !pending.future.claim());
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("reservation writer error", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 요청 이후 max-wait-ms 동안 들어온 요청을 batch에 모은다.
+     */
+    private void collect(List<PendingInsert> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * batch 저장 후 각 요청의 future 완료
+     * - batch 전체가 실패하면 한 건씩 다시 저장해서 실패한 요청만 실패 처리한다.
+     */
+    private void flush(List<PendingInsert> batch) {
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> insertAll(batch));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(ids.get(i));
+            }
+            log.debug("reservation batch insert => size: {}", batch.size());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).future.completeExceptionally(e);
+                return;
+            }
+            log.warn("reservation batch insert failed, retry one by one => size: {}", batch.size(), e);
+            for (PendingInsert pending : batch) {
+                flush(Collections.singletonList(pending));
+            }
+        }
+    }
+
+    private List<Long> insertAll(List<PendingInsert> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_SQL);
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(VALUES_ROW);
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            List<Long> ids = executeInsert(connection, sql.toString(), batch);
+            insertIdempotencyKeys(connection, batch, ids);
+            insertOutbox(connection, batch, ids);
+            return ids;
+        });
+    }
+
+    private List<Long> executeInsert(Connection connection, String sql, List<PendingInsert> batch) throws SQLException {
+        List<Long> ids = new ArrayList<>(batch.size());
+        try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            int index = 1;
+            for (PendingInsert pending : batch) {
+                ReservationEntity reservation = pending.reservation;
+                ps.setString(index++, reservation.getUserId());
+                ps.setString(index++, reservation.getPhone());
+                ps.setString(index++, reservation.getPartnerId());
+                ps.setLong(index++, reservation.getStoreId());
+                ps.setString(index++, reservation.getStoreName());
+                ps.setInt(index++, reservation.getPeople());
+                ps.setString(index++, reservation.getStatus().name());
+                ps.setTimestamp(index++, Timestamp.valueOf(reservation.getStatusUpdatedAt()));
+                ps.setTimestamp(index++, Timestamp.valueOf(reservation.getTime()));
+            }
+            ps.executeUpdate();
+
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                while (keys.next()) {
+                    ids.add(keys.getLong(1));
+                }
+            }
+        }
+
+        if (ids.size() != batch.size()) {
+            throw new IllegalStateException("generated keys mismatch => expected: "
+                    + batch.size() + ", actual: " + ids.size());
+        }
+        return ids;
+    }
+
+    private void insertOutbox(Connection connection, List<PendingInsert> batch, List<Long> ids) throws SQLException {
+        StringBuilder sql = new StringBuilder(OUTBOX_INSERT_SQL);
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(OUTBOX_VALUES_ROW);
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            int index = 1;
+            for (int i = 0; i < batch.size(); i++) {
+                ReservationEntity reservation = batch.get(i).reservation;
+                ps.setString(index++, reservation.getPartnerId());
+                ps.setLong(index++, ids.get(i));
+                ps.setString(index++, reservation.getUserId());
+                ps.setInt(index++, reservation.getPeople());
+                ps.setString(index++, reservation.getStatus().name());
+                ps.setTimestamp(index++, Timestamp.valueOf(reservation.getTime()));
+                ps.setTimestamp(index++, Timestamp.valueOf(reservation.getStatusUpdatedAt()));
+            }
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * Idempotency-Key가 있는 예약만 reservation_idempotency에 저장
+     */
+    private void insertIdempotencyKeys(Connection connection, List<PendingInsert> batch, List<Long> ids) throws SQLException {
+        List<Integer> keyed = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (batch.get(i).reservation.getIdempotencyKey() != null) {
+                keyed.add(i);
+            }
+        }
+        if (keyed.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(IDEMPOTENCY_INSERT_SQL);
+        for (int i = 0; i < keyed.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(IDEMPOTENCY_VALUES_ROW);
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            int index = 1;
+            for (int i : keyed) {
+                ReservationEntity reservation = batch.get(i).reservation;
+                ps.setString(index++, reservation.getUserId());
+                ps.setString(index++, reservation.getIdempotencyKey());
+                ps.setLong(index++, ids.get(i));
+                ps.setTimestamp(index++, Timestamp.valueOf(reservation.getStatusUpdatedAt()));
+            }
+            ps.executeUpdate();
+        }
+    }
+
+    @AllArgsConstructor
+    private static class PendingInsert {
+        private final ReservationEntity reservation;
+        private final ClaimableFuture future;
+    }
+
+    /**
+     * 저장이 시작되기 전에만 취소할 수 있는 future
+     * - writer가 batch에 넣을 때 claim하며, claim과 cancel 중 먼저 실행된 쪽만 성공한다.
+     */
+    private static class ClaimableFuture extends CompletableFuture<Long> {
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return claimed.compareAndSet(false, true) && super.cancel(mayInterruptIfRunning);
+        }
+    }
+}
@@ -13,6 +13,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @Entity(name = "RESERVATION")
+@Table(indexes = {
+        @Index(name = "idx_reservation_partner_time", columnList = "partner_id, time, id"),
+        @Index(name = "idx_reservation_user_time", columnList = "user_id, time, id"),
+        @Index(name = "idx_reservation_status_time", columnList = "status, time"),
+        @Index(name = "idx_reservation_store_time", columnList = "store_id, time")
+})
 public class ReservationEntity {
 
     @Id
@@ -22,6 +28,11 @@ public class ReservationEntity {
     private String userId;
     private String phone;
     private String partnerId;
+
+    /**
+     * 매장 ID (STORE.id) - storeName은 예약 당시 매장 명 (표시용)
+     */
+    private Long storeId;
     private String storeName;
     private Integer people;
 
@@ -31,4 +42,11 @@ public class ReservationEntity {
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
     private LocalDateTime time;
+
+    /**
+     * 예약 요청의 Idempotency-Key (없으면 null)
+     * - RESERVATION_IDEMPOTENCY 테이블에 저장된다. (ReservationBatchWriter)
+     */
+    @Transient
+    private String idempotencyKey;
 }
@@ -0,0 +1,36 @@
+package com.example.storereservation.domain.reservation.persist;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 요청 Idempotency-Key
+ * - RESERVATION은 time 기준 파티션 테이블이라 (user_id, idempotency_key) unique 제약을 가질 수 없으므로
+ *   파티션 없는 별도 테이블에서 키를 관리한다.
+ * - ReservationBatchWriter가 예약과 같은 트랜잭션에서 저장한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity(name = "RESERVATION_IDEMPOTENCY")
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_idempotency_user_key", columnNames = {"user_id", "idempotency_key"})
+})
+public class ReservationIdempotencyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String userId;
+
+    @Column(length = 64)
+    private String idempotencyKey;
+
+    private Long reservationId;
+    private LocalDateTime createdAt;
+}
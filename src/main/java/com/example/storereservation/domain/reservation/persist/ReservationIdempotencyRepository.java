@@ -0,0 +1,12 @@
+package com.example.storereservation.domain.reservation.persist;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ReservationIdempotencyRepository extends JpaRepository<ReservationIdempotencyEntity, Long> {
+
+    Optional<ReservationIdempotencyEntity> findByUserIdAndIdempotencyKey(String userId, String idempotencyKey);
+}
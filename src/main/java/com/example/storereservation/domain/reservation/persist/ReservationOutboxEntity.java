@@ -0,0 +1,63 @@
+package com.example.storereservation.domain.reservation.persist;
+
+import com.example.storereservation.domain.reservation.dto.ReservationDto;
+import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 변경 이벤트 outbox
+ * - 예약 저장 / 상태 변경과 같은 트랜잭션에서 저장되고, ReservationEventRelay가 읽어서 파트너에게 전송한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity(name = "RESERVATION_OUTBOX")
+@Table(indexes = {
+        @Index(name = "idx_reservation_outbox_partner_id", columnList = "partner_id, id"),
+        @Index(name = "idx_reservation_outbox_created_at", columnList = "created_at")
+})
+public class ReservationOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String partnerId;
+    private Long reservationId;
+    private String userId;
+    private Integer people;
+
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+    private LocalDateTime time;
+    private LocalDateTime createdAt;
+
+    public static ReservationOutboxEntity of(ReservationEntity reservation, ReservationStatus status, LocalDateTime now) {
+        return ReservationOutboxEntity.builder()
+                .partnerId(reservation.getPartnerId())
+                .reservationId(reservation.getId())
+                .userId(reservation.getUserId())
+                .people(reservation.getPeople())
+                .status(status)
+                .time(reservation.getTime())
+                .createdAt(now)
+                .build();
+    }
+
+    public static ReservationOutboxEntity of(ReservationDto reservation, LocalDateTime now) {
+        return ReservationOutboxEntity.builder()
+                .partnerId(reservation.getPartnerId())
+                .reservationId(reservation.getId())
+                .userId(reservation.getUserId())
+                .people(reservation.getPeople())
+                .status(reservation.getStatus())
+                .time(reservation.getTime())
+                .createdAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.storereservation.domain.reservation.persist;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReservationOutboxRepository extends JpaRepository<ReservationOutboxEntity, Long> {
+
+    List<ReservationOutboxEntity> findByIdGreaterThanOrderById(Long id, Pageable pageable);
+
+    List<ReservationOutboxEntity> findByPartnerIdAndIdBetweenOrderById(
+            String partnerId, Long fromId, Long toId, Pageable pageable);
+
+    @Query("select coalesce(max(o.id), 0) from RESERVATION_OUTBOX o")
+    Long findMaxId();
+
+    @Modifying
+    @Query("delete from RESERVATION_OUTBOX o where o.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -4,20 +4,29 @@ import com.example.storereservation.domain.reservation.type.ReservationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<ReservationEntity, Long> {
 
-    Page<ReservationEntity> findByUserIdOrderByTimeDesc(String userId, Pageable pageable);
+    Page<ReservationEntity> findByUserIdOrderByTimeDescIdDesc(String userId, Pageable pageable);
 
-    Page<ReservationEntity> findByUserIdAndStatusOrderByTime(String userId, ReservationStatus status, Pageable pageable);
+    Page<ReservationEntity> findByUserIdAndStatusOrderByTimeAscIdAsc(
+            String userId, ReservationStatus status, Pageable pageable);
 
-    Page<ReservationEntity> findByPartnerIdOrderByTimeDesc(String partnerId, Pageable pageable);
+    Page<ReservationEntity> findByPartnerIdOrderByTimeDescIdDesc(String partnerId, Pageable pageable);
 
-    Page<ReservationEntity> findByPartnerIdAndStatusOrderByTime(
+    Page<ReservationEntity> findByPartnerIdAndStatusOrderByTimeAscIdAsc(
             String partnerId, ReservationStatus status, Pageable pageable);
 
     Page<ReservationEntity> findByPartnerIdAndTimeBetweenOrderByTime(
@@ -25,4 +34,144 @@ public interface ReservationRepository extends JpaRepository<ReservationEntity,
 
     Page<ReservationEntity> findByPartnerIdAndStatusAndTimeBetweenOrderByTime(
             String partnerId, ReservationStatus status, LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    /*
+     * cursor(seek) 조회 - (time, id) 기준으로 cursor 다음 행부터 조회한다.
+     * Pageable은 조회 개수 제한으로만 사용한다. (count 쿼리 없음)
+     */
+
+    @Query("select r from RESERVATION r where r.userId = :userId"
+            + " and (r.time < :time or (r.time = :time and r.id < :id))"
+            + " order by r.time desc, r.id desc")
+    List<ReservationEntity> seekByUserId(
+            @Param("userId") String userId, @Param("time") LocalDateTime time, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r from RESERVATION r where r.userId = :userId and r.status = :status"
+            + " and (r.time > :time or (r.time = :time and r.id > :id))"
+            + " order by r.time, r.id")
+    List<ReservationEntity> seekByUserIdAndStatus(
+            @Param("userId") String userId, @Param("status") ReservationStatus status,
+            @Param("time") LocalDateTime time, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r from RESERVATION r where r.partnerId = :partnerId"
+            + " and (r.time < :time or (r.time = :time and r.id < :id))"
+            + " order by r.time desc, r.id desc")
+    List<ReservationEntity> seekByPartnerId(
+            @Param("partnerId") String partnerId, @Param("time") LocalDateTime time, @Param("id") Long id,
+            Pageable pageable);
+
+    @Query("select r from RESERVATION r where r.partnerId = :partnerId and r.status = :status"
+            + " and (r.time > :time or (r.time = :time and r.id > :id))"
+            + " order by r.time, r.id")
+    List<ReservationEntity> seekByPartnerIdAndStatus(
+            @Param("partnerId") String partnerId, @Param("status") ReservationStatus status,
+            @Param("time") LocalDateTime time, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r from RESERVATION r where r.partnerId = :partnerId and r.time between :start and :end"
+            + " and (r.time > :time or (r.time = :time and r.id > :id))"
+            + " order by r.time, r.id")
+    List<ReservationEntity> seekByPartnerIdAndTimeBetween(
+            @Param("partnerId") String partnerId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+            @Param("time") LocalDateTime time, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r from RESERVATION r where r.partnerId = :partnerId and r.status = :status"
+            + " and r.time between :start and :end"
+            + " and (r.time > :time or (r.time = :time and r.id > :id))"
+            + " order by r.time, r.id")
+    List<ReservationEntity> seekByPartnerIdAndStatusAndTimeBetween(
+            @Param("partnerId") String partnerId, @Param("status") ReservationStatus status,
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+            @Param("time") LocalDateTime time, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 조건부 상태 변경 (compare-and-set)
+     * - 해당 파트너의 예약이고 현재 상태가 from에 포함될 때만 변경된다.
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("update RESERVATION r set r.status = :status, r.statusUpdatedAt = :now"
+            + " where r.id = :id and r.partnerId = :partnerId and r.status in :from")
+    int updateStatus(@Param("id") Long id, @Param("partnerId") String partnerId,
+                     @Param("from") Collection<ReservationStatus> from, @Param("status") ReservationStatus status,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 도착 확인 조건부 변경 (CONFIRM -> ARRIVED)
+     * - 전화번호 뒷자리가 일치하고 예약 시간이 deadline 이후일 때만 변경된다.
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("update RESERVATION r set r.status = :status, r.statusUpdatedAt = :now"
+            + " where r.id = :id and r.status = :from and r.phone like :phonePattern and r.time >= :deadline")
+    int updateStatusForArrival(@Param("id") Long id, @Param("phonePattern") String phonePattern,
+                               @Param("deadline") LocalDateTime deadline, @Param("from") ReservationStatus from,
+                               @Param("status") ReservationStatus status, @Param("now") LocalDateTime now);
+
+    /**
+     * 일괄 상태 변경 대상 조회 - 파트너의 예약만 (SELECT ... FOR UPDATE)
+     * - 다른 파트너의 예약은 잠그지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RESERVATION r where r.id in :ids and r.partnerId = :partnerId")
+    List<ReservationEntity> findAllByIdInAndPartnerIdForUpdate(@Param("ids") Collection<Long> ids,
+                                                               @Param("partnerId") String partnerId);
+
+    /**
+     * 일괄 상태 변경 대상 수 - 날짜, 상태 조건 (잠금 없음)
+     */
+    long countByPartnerIdAndStatusInAndTimeBetween(String partnerId, Collection<ReservationStatus> statuses,
+                                                   LocalDateTime start, LocalDateTime end);
+
+    /**
+     * 일괄 상태 변경 대상 조회 - 날짜, 상태 조건 (SELECT ... FOR UPDATE)
+     * - Pageable로 잠그는 행 수를 제한한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RESERVATION r where r.partnerId = :partnerId and r.status in :statuses"
+            + " and r.time between :start and :end order by r.id")
+    List<ReservationEntity> findByPartnerIdAndStatusInAndTimeBetweenForUpdate(
+            @Param("partnerId") String partnerId, @Param("statuses") Collection<ReservationStatus> statuses,
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end, Pageable pageable);
+
+    /**
+     * 일괄 조건부 상태 변경
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update RESERVATION r set r.status = :status, r.statusUpdatedAt = :now"
+            + " where r.id in :ids and r.partnerId = :partnerId and r.status in :from")
+    int updateStatusBulk(@Param("ids") Collection<Long> ids, @Param("partnerId") String partnerId,
+                         @Param("from") Collection<ReservationStatus> from, @Param("status") ReservationStatus status,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 예약 시간이 지난 특정 상태의 예약 ID 조회 (sweeper)
+     */
+    @Query("select r.id from RESERVATION r where r.status = :status and r.time < :before order by r.time")
+    List<Long> findIdsByStatusAndTimeBefore(
+            @Param("status") ReservationStatus status, @Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * ID 목록의 예약 중 현재 상태가 from인 예약만 변경 (sweeper)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update RESERVATION r set r.status = :to, r.statusUpdatedAt = :now where r.id in :ids and r.status = :from")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("from") ReservationStatus from,
+                          @Param("to") ReservationStatus to, @Param("now") LocalDateTime now);
+
+    List<ReservationEntity> findByStatusAndTimeBetween(ReservationStatus status, LocalDateTime start, LocalDateTime end);
+
+    List<ReservationEntity> findByStatusInAndTimeGreaterThanEqual(Collection<ReservationStatus> statuses, LocalDateTime time);
+
+    /**
+     * 보관 기간이 지난 예약 ID 조회 (archiver)
+     */
+    @Query("select r.id from RESERVATION r where r.status in :statuses and r.time < :before order by r.time")
+    List<Long> findIdsByStatusInAndTimeBefore(@Param("statuses") Collection<ReservationStatus> statuses,
+                                              @Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("delete from RESERVATION r where r.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,53 @@
+package com.example.storereservation.domain.reservation.persist;
+
+import com.example.storereservation.domain.reservation.type.WaitlistStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity(name = "RESERVATION_WAITLIST")
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_waitlist_user_store_time", columnNames = {"user_id", "store_id", "time", "waiting"})
+}, indexes = {
+        @Index(name = "idx_waitlist_status_time", columnList = "status, time"),
+        @Index(name = "idx_waitlist_user_status", columnList = "user_id, status")
+})
+public class WaitlistEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String userId;
+    private String phone;
+    private String partnerId;
+    private Long storeId;
+    private String storeName;
+    private Integer people;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime time;
+
+    @Enumerated(EnumType.STRING)
+    private WaitlistStatus status;
+    private LocalDateTime statusUpdatedAt;
+
+    /**
+     * WAITING 상태이거나 전환 중(PROMOTED, 예약 ID 저장 전)이면 true, 아니면 null
+     * - uk_waitlist_user_store_time으로 같은 시간대의 대기를 하나만 허용하기 위한 컬럼
+     *   (null은 unique 비교에서 제외되므로 취소 / 전환 / 만료된 대기는 다시 등록할 수 있다)
+     */
+    private Boolean waiting;
+
+    /**
+     * 예약 요청으로 전환된 경우 생성된 예약 ID
+     */
+    private Long reservationId;
+}
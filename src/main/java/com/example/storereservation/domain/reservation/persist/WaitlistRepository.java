@@ -0,0 +1,60 @@
+package com.example.storereservation.domain.reservation.persist;
+
+import com.example.storereservation.domain.reservation.type.WaitlistStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface WaitlistRepository extends JpaRepository<WaitlistEntity, Long> {
+
+    List<WaitlistEntity> findByStatusAndTimeGreaterThanEqualOrderById(WaitlistStatus status, LocalDateTime time);
+
+    List<WaitlistEntity> findByUserIdAndStatusOrderByTime(String userId, WaitlistStatus status);
+
+    /**
+     * slot [slotStart, slotEnd)에서 해당 대기보다 먼저 등록된 대기 수
+     */
+    @Query("select count(w) from RESERVATION_WAITLIST w where w.storeId = :storeId and w.status = :status"
+            + " and w.time >= :slotStart and w.time < :slotEnd and w.id < :id")
+    long countAhead(@Param("storeId") Long storeId, @Param("status") WaitlistStatus status,
+                    @Param("slotStart") LocalDateTime slotStart, @Param("slotEnd") LocalDateTime slotEnd,
+                    @Param("id") Long id);
+
+    /**
+     * 조건부 상태 변경 (waiting 표시는 그대로 둔다)
+     * - 예약 전환 선점(WAITING -> PROMOTED)과 저장 실패 시 되돌리기(PROMOTED -> WAITING)에 사용
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("update RESERVATION_WAITLIST w set w.status = :to, w.statusUpdatedAt = :now"
+            + " where w.id = :id and w.status = :from")
+    int updateStatus(@Param("id") Long id, @Param("from") WaitlistStatus from, @Param("to") WaitlistStatus to,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 전환된 예약 ID 저장 후 waiting 표시 해제
+     */
+    @Modifying
+    @Query("update RESERVATION_WAITLIST w set w.reservationId = :reservationId, w.waiting = null"
+            + " where w.id = :id and w.status = :status")
+    int updateReservationId(@Param("id") Long id, @Param("status") WaitlistStatus status,
+                            @Param("reservationId") Long reservationId);
+
+    @Modifying
+    @Query("update RESERVATION_WAITLIST w set w.status = :to, w.statusUpdatedAt = :now, w.waiting = null"
+            + " where w.id = :id and w.userId = :userId and w.status = :from")
+    int updateStatusByUser(@Param("id") Long id, @Param("userId") String userId, @Param("from") WaitlistStatus from,
+                           @Param("to") WaitlistStatus to, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update RESERVATION_WAITLIST w set w.status = :to, w.statusUpdatedAt = :now, w.waiting = null"
+            + " where w.status = :from and w.time < :before")
+    int updateStatusByTimeBefore(@Param("from") WaitlistStatus from, @Param("to") WaitlistStatus to,
+                                 @Param("before") LocalDateTime before, @Param("now") LocalDateTime now);
+}
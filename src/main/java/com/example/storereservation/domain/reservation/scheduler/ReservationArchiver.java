@@ -0,0 +1,102 @@
+package com.example.storereservation.domain.reservation.scheduler;
+
+import com.example.storereservation.domain.reservation.persist.ReservationArchiveRepository;
+import com.example.storereservation.domain.reservation.persist.ReservationRepository;
+import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 종료 상태 예약 archive
+ * - 예약 시간이 보관 기간(retention-months)보다 오래된 REFUSED, USE_COMPLETE, NO_SHOW 예약을
+ *   chunk 단위로 RESERVATION_ARCHIVE 테이블로 옮긴다. (복사 + 삭제를 한 트랜잭션으로)
+ * - archive 테이블의 예약은 모두 archiveBoundary() 이전 시간이므로,
+ *   ReservationService는 조회 범위가 이 시간보다 앞설 때만 archive 테이블을 함께 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationArchiver {
+    private static final EnumSet<ReservationStatus> ARCHIVE_STATUSES = Arrays.stream(ReservationStatus.values())
+            .filter(ReservationStatus::isTerminal)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(ReservationStatus.class)));
+
+    @Value("${reservation.archive.retention-months:6}")
+    private int retentionMonths;
+
+    @Value("${reservation.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${reservation.archive.chunk-pause-ms:100}")
+    private long chunkPauseMillis;
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * archive 기준 시간 (이번 달 1일 - retention-months)
+     * - 이 시간 이전의 종료 상태 예약만 archive 테이블에 있다.
+     */
+    public LocalDateTime archiveBoundary() {
+        return LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths).atStartOfDay();
+    }
+
+    /**
+     * 해당 상태의 예약이 archive 대상인지 여부
+     */
+    public boolean isArchivable(ReservationStatus status) {
+        return ARCHIVE_STATUSES.contains(status);
+    }
+
+    @Scheduled(cron = "${reservation.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        LocalDateTime before = archiveBoundary();
+        long archived = 0;
+        long start = System.currentTimeMillis();
+
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> archiveChunk(before));
+            archived += moved;
+            if (moved < chunkSize) {
+                break;
+            }
+            try {
+                Thread.sleep(chunkPauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        log.info("Reservation archive => before: {}, archived: {}, {}ms",
+                before, archived, System.currentTimeMillis() - start);
+    }
+
+    private int archiveChunk(LocalDateTime before) {
+        List<Long> ids = reservationRepository.findIdsByStatusInAndTimeBefore(
+                ARCHIVE_STATUSES, before, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int copied = reservationArchiveRepository.copyFromReservation(ids, LocalDateTime.now());
+        if (copied != ids.size()) {
+            throw new IllegalStateException("reservation archive copy mismatch => expected: "
+                    + ids.size() + ", actual: " + copied);
+        }
+        reservationRepository.deleteByIds(ids);
+        return ids.size();
+    }
+}
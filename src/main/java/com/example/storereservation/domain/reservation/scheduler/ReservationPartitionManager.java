@@ -0,0 +1,125 @@
+package com.example.storereservation.domain.reservation.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RESERVATION 테이블 월 단위 파티션 관리 (MariaDB RANGE COLUMNS(time))
+ * - 앞으로 ahead-months 달의 파티션을 미리 만든다. (p_max 파티션을 나눔)
+ *   파티션 경계는 증가해야 하므로, 이미 있는 가장 큰 경계(p_old 포함) 이하의 달은 건너뛴다.
+ * - archive 기준 시간보다 오래되고 비어 있는 파티션은 삭제한다.
+ * - 테이블이 파티셔닝 되어 있지 않으면 아무것도 하지 않는다. (전환 DDL은 README 참고)
+ * - 관리 중 실패하면 예외를 그대로 던진다. (시작 시에는 서버 시작 실패, 주기 실행 시에는 scheduler error 로그)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationPartitionManager {
+    private static final String MAX_PARTITION = "p_max";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    private static final String SELECT_PARTITIONS = "SELECT PARTITION_NAME, PARTITION_DESCRIPTION"
+            + " FROM information_schema.PARTITIONS"
+            + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'reservation' AND PARTITION_NAME IS NOT NULL"
+            + " ORDER BY PARTITION_ORDINAL_POSITION";
+
+    @Value("${reservation.partition.ahead-months:3}")
+    private int aheadMonths;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReservationArchiver reservationArchiver;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${reservation.partition.cron:0 0 3 * * *}")
+    public void maintain() {
+        Map<String, String> partitions = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_PARTITIONS, (RowCallbackHandler) rs ->
+                partitions.put(rs.getString("PARTITION_NAME"), rs.getString("PARTITION_DESCRIPTION")));
+        if (!partitions.containsKey(MAX_PARTITION)) {
+            log.info("reservation table is not partitioned, skip partition maintenance");
+            return;
+        }
+        addPartitions(partitions);
+        dropEmptyPartitions(partitions.keySet());
+    }
+
+    /**
+     * 이번 달부터 ahead-months 달 후까지 없는 파티션 추가
+     * - 경계(다음 달 1일)가 기존 파티션의 가장 큰 경계 이하인 달은 이미 다른 파티션에 포함되어 있으므로 건너뛴다.
+     */
+    private void addPartitions(Map<String, String> partitions) {
+        LocalDate highestBound = highestBound(partitions);
+        YearMonth month = YearMonth.now();
+        for (int i = 0; i <= aheadMonths; i++, month = month.plusMonths(1)) {
+            String name = month.format(PARTITION_NAME);
+            LocalDate bound = month.plusMonths(1).atDay(1);
+            if (partitions.containsKey(name) || (highestBound != null && !bound.isAfter(highestBound))) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE reservation REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                    + "PARTITION " + name + " VALUES LESS THAN ('" + bound + "'), "
+                    + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            highestBound = bound;
+            log.info("reservation partition added => {}", name);
+        }
+    }
+
+    /**
+     * p_max를 제외한 파티션 경계 중 가장 큰 날짜 (PARTITION_DESCRIPTION 예 : '2026-11-01' 또는 '2026-11-01 00:00:00')
+     */
+    private LocalDate highestBound(Map<String, String> partitions) {
+        LocalDate highest = null;
+        for (Map.Entry<String, String> partition : partitions.entrySet()) {
+            String description = partition.getValue();
+            if (MAX_PARTITION.equals(partition.getKey()) || description == null || description.contains("MAXVALUE")) {
+                continue;
+            }
+            LocalDate bound = LocalDate.parse(description.replace("'", "").trim().substring(0, 10));
+            if (highest == null || bound.isAfter(highest)) {
+                highest = bound;
+            }
+        }
+        return highest;
+    }
+
+    /**
+     * archive 기준 시간 이전의 비어 있는 파티션 삭제
+     * - 종료 상태가 아닌 예약이 남아 있는 파티션은 그대로 둔다.
+     */
+    private void dropEmptyPartitions(Collection<String> partitions) {
+        LocalDate boundary = reservationArchiver.archiveBoundary().toLocalDate();
+        for (String name : partitions) {
+            if (MAX_PARTITION.equals(name) || !isMonthPartition(name)) {
+                continue;
+            }
+            LocalDate end = YearMonth.parse(name, PARTITION_NAME).plusMonths(1).atDay(1);
+            if (end.isAfter(boundary)) {
+                continue;
+            }
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM reservation PARTITION (" + name + ")", Integer.class);
+            if (count != null && count == 0) {
+                jdbcTemplate.execute("ALTER TABLE reservation DROP PARTITION " + name);
+                log.info("reservation partition dropped => {}", name);
+            }
+        }
+    }
+
+    private boolean isMonthPartition(String name) {
+        return name.matches("p\\d{6}");
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.storereservation.domain.reservation.scheduler;
+
+import com.example.storereservation.domain.reservation.board.TodayReservationBoard;
+import com.example.storereservation.domain.reservation.capacity.SlotCapacityLedger;
+import com.example.storereservation.domain.reservation.persist.ReservationRepository;
+import com.example.storereservation.domain.reservation.service.WaitlistService;
+import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지난 예약 상태 정리
+ * - CONFIRM 상태로 예약 시간이 지난 예약 => NO_SHOW
+ * - ARRIVED 상태로 예약 시간 + use-minutes 가 지난 예약 => USE_COMPLETE
+ * - 예약 시간이 지난 대기 => EXPIRED
+ * - (status, time) 인덱스로 대상 ID를 chunk 단위로 조회해서 chunk 마다 짧은 트랜잭션으로 변경한다.
+ * - 처리량은 JMX(spring.jmx.enabled=true)와 로그로 확인할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ManagedResource(objectName = "com.example.storereservation:name=ReservationSweeper")
+public class ReservationSweeper {
+
+    @Value("${reservation.sweeper.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${reservation.sweeper.chunk-pause-ms:50}")
+    private long chunkPauseMillis;
+
+    @Value("${reservation.sweeper.max-backoff-ms:10000}")
+    private long maxBackoffMillis;
+
+    @Value("${reservation.sweeper.use-minutes:120}")
+    private long useMinutes;
+
+    private final ReservationRepository reservationRepository;
+    private final SlotCapacityLedger slotCapacityLedger;
+    private final TodayReservationBoard todayReservationBoard;
+    private final WaitlistService waitlistService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong noShowCount = new AtomicLong();
+    private final AtomicLong useCompleteCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private volatile long lastRunUpdated;
+    private volatile long lastRunMillis;
+
+    @Scheduled(fixedDelayString = "${reservation.sweeper.interval-ms:60000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        long start = System.nanoTime();
+
+        long noShow = sweep(ReservationStatus.CONFIRM, ReservationStatus.NO_SHOW, now);
+        long useComplete = sweep(ReservationStatus.ARRIVED, ReservationStatus.USE_COMPLETE, now.minusMinutes(useMinutes));
+        slotCapacityLedger.evictBefore(now);
+        todayReservationBoard.evictBefore(now);
+        int expired = expireWaitlist(now);
+
+        noShowCount.addAndGet(noShow);
+        useCompleteCount.addAndGet(useComplete);
+        lastRunUpdated = noShow + useComplete;
+        lastRunMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        if (lastRunUpdated > 0 || expired > 0) {
+            log.info("Reservation sweep => NO_SHOW: {}, USE_COMPLETE: {}, waitlist EXPIRED: {}, {}ms ({} rows/s)",
+                    noShow, useComplete, expired, lastRunMillis, getLastRunThroughput());
+        }
+    }
+
+    /**
+     * 예약 시간이 지난 대기 종료
+     */
+    private int expireWaitlist(LocalDateTime now) {
+        try {
+            return waitlistService.expireBefore(now);
+        } catch (RuntimeException e) {
+            failureCount.incrementAndGet();
+            log.warn("Waitlist expire failed", e);
+            return 0;
+        }
+    }
+
+    /**
+     * 대상이 없을 때까지 chunk 단위로 상태 변경
+     * - 실패 시 대기 시간을 두 배씩 늘리며 재시도하고, max-backoff-ms를 넘으면 다음 실행으로 넘긴다.
+     * @return 변경된 예약 수
+     */
+    private long sweep(ReservationStatus from, ReservationStatus to, LocalDateTime before) {
+        long updated = 0;
+        long backoff = chunkPauseMillis;
+
+        while (true) {
+            try {
+                int[] result = transactionTemplate.execute(status -> sweepChunk(from, to, before));
+                updated += result[1];
+                if (result[0] < chunkSize) {
+                    return updated;
+                }
+                backoff = chunkPauseMillis;
+            } catch (RuntimeException e) {
+                failureCount.incrementAndGet();
+                backoff = Math.max(backoff, 1L) * 2;
+                log.warn("Reservation sweep chunk failed => {} -> {}, retry after {}ms", from, to, backoff, e);
+                if (backoff > maxBackoffMillis) {
+                    return updated;
+                }
+            }
+
+            if (!pause(backoff)) {
+                return updated;
+            }
+        }
+    }
+
+    /**
+     * @return {조회된 대상 수, 변경된 예약 수}
+     */
+    private int[] sweepChunk(ReservationStatus from, ReservationStatus to, LocalDateTime before) {
+        List<Long> ids = reservationRepository.findIdsByStatusAndTimeBefore(from, before, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return new int[]{0, 0};
+        }
+        int updated = reservationRepository.updateStatusByIds(ids, from, to, LocalDateTime.now());
+        return new int[]{ids.size(), updated};
+    }
+
+    private boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @ManagedAttribute(description = "NO_SHOW로 변경된 예약 수 (누적)")
+    public long getNoShowCount() {
+        return noShowCount.get();
+    }
+
+    @ManagedAttribute(description = "USE_COMPLETE로 변경된 예약 수 (누적)")
+    public long getUseCompleteCount() {
+        return useCompleteCount.get();
+    }
+
+    @ManagedAttribute(description = "chunk 처리 실패 횟수 (누적)")
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    @ManagedAttribute(description = "마지막 실행 소요 시간(ms)")
+    public long getLastRunMillis() {
+        return lastRunMillis;
+    }
+
+    @ManagedAttribute(description = "마지막 실행 처리량(rows/s)")
+    public long getLastRunThroughput() {
+        return lastRunMillis == 0 ? lastRunUpdated : lastRunUpdated * 1000 / lastRunMillis;
+    }
+}
@@ -1,63 +1,236 @@
 package com.example.storereservation.domain.reservation.service;
 
+import com.example.storereservation.domain.reservation.board.TodayReservationBoard;
+import com.example.storereservation.domain.reservation.capacity.SlotCapacityLedger;
+import com.example.storereservation.domain.reservation.dto.BulkChangeReservation;
+import com.example.storereservation.domain.reservation.dto.KioskReservation;
 import com.example.storereservation.domain.reservation.dto.MakeReservation;
+import com.example.storereservation.domain.reservation.dto.ReservationCursor;
 import com.example.storereservation.domain.reservation.dto.ReservationDto;
+import com.example.storereservation.domain.reservation.idempotency.ReservationIdempotencyWindow;
+import com.example.storereservation.domain.reservation.persist.ReservationArchiveEntity;
+import com.example.storereservation.domain.reservation.persist.ReservationArchiveRepository;
+import com.example.storereservation.domain.reservation.persist.ReservationBatchWriter;
 import com.example.storereservation.domain.reservation.persist.ReservationEntity;
+import com.example.storereservation.domain.reservation.persist.ReservationIdempotencyEntity;
+import com.example.storereservation.domain.reservation.persist.ReservationIdempotencyRepository;
+import com.example.storereservation.domain.reservation.persist.ReservationOutboxEntity;
+import com.example.storereservation.domain.reservation.persist.ReservationOutboxRepository;
 import com.example.storereservation.domain.reservation.persist.ReservationRepository;
+import com.example.storereservation.domain.reservation.type.BulkChangeResult;
+import com.example.storereservation.domain.reservation.scheduler.ReservationArchiver;
 import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import com.example.storereservation.domain.store.index.StoreIdDictionary;
 import com.example.storereservation.domain.store.persist.StoreEntity;
-import com.example.storereservation.domain.store.persist.StoreRepository;
 import com.example.storereservation.domain.user.persist.UserEntity;
 import com.example.storereservation.domain.user.persist.UserRepository;
+import com.example.storereservation.global.dto.CursorPage;
 import com.example.storereservation.global.exception.ErrorCode;
 import com.example.storereservation.global.exception.MyException;
 import com.example.storereservation.global.type.PageConst;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 import javax.transaction.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class ReservationService {
+    private static final long RESERVATION_WRITE_TIMEOUT_SECONDS = 5L;
+    private static final int RESERVATION_BULK_MAX_SIZE = 500;
+    private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 64;
+    private static final Comparator<ReservationEntity> TIME_ASC =
+            Comparator.comparing(ReservationEntity::getTime).thenComparing(ReservationEntity::getId);
+    private static final Comparator<ReservationEntity> TIME_DESC = TIME_ASC.reversed();
+    private static final Comparator<ReservationDto> DTO_TIME_ASC =
+            Comparator.comparing(ReservationDto::getTime).thenComparing(ReservationDto::getId);
+    private static final Comparator<ReservationDto> DTO_TIME_DESC = DTO_TIME_ASC.reversed();
+
     private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final ReservationArchiver reservationArchiver;
+    private final ReservationBatchWriter reservationBatchWriter;
+    private final ReservationOutboxRepository reservationOutboxRepository;
+    private final ReservationIdempotencyRepository reservationIdempotencyRepository;
     private final UserRepository userRepository;
-    private final StoreRepository storeRepository;
+    private final StoreIdDictionary storeIdDictionary;
+    private final SlotCapacityLedger slotCapacityLedger;
+    private final TodayReservationBoard todayReservationBoard;
+    private final ReservationIdempotencyWindow reservationIdempotencyWindow;
+    private final WaitlistService waitlistService;
 
     /**
      * 유저 - 매장 예약
+     * - 해당 시간대의 좌석이 부족하면 RESERVATION_SLOT_FULL
+     * - 저장은 ReservationBatchWriter가 다른 요청과 모아서 처리하므로 트랜잭션 없이 실행한다.
+     *   (저장을 기다리는 동안 DB 커넥션을 점유하지 않기 위함)
      * @param request 예약 요청 정보
      * @return 예약 상세 정보
      */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public ReservationDto makeReservation(MakeReservation.Request request) {
-        ReservationEntity reservation = createReservationEntity(request);
-        ReservationEntity saved = reservationRepository.save(reservation);
-        log.info("reservation id : {}", saved.getId());
-        return ReservationDto.fromEntity(saved);
+        return makeReservation(request, null);
     }
 
     /**
-     * 매장 예약 Request를 바탕으로 ReservationEntity 생성
+     * 유저 - 매장 예약 (Idempotency-Key)
+     * - 같은 유저가 같은 키로 다시 요청하면 조회, 저장 없이 처음 예약 결과를 반환한다.
+     * - 메모리 window(ReservationIdempotencyWindow)에 없으면 RESERVATION_IDEMPOTENCY의 (user_id, idempotency_key)로 확인하고,
+     *   여러 서버에서 동시에 저장되는 경우는 unique 제약 조건으로 막는다.
+     * @param request 예약 요청 정보
+     * @param idempotencyKey Idempotency-Key 헤더 (없으면 null)
+     * @return 예약 상세 정보
      */
-    private ReservationEntity createReservationEntity(MakeReservation.Request request) {
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public ReservationDto makeReservationIdempotent(MakeReservation.Request request, String idempotencyKey) {
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return makeReservation(request, null);
+        }
+        if (idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH) {
+            throw new MyException(ErrorCode.RESERVATION_IDEMPOTENCY_KEY_ILLEGAL);
+        }
+
+        return reservationIdempotencyWindow.execute(request.getUserId(), idempotencyKey, request, () ->
+                findByIdempotencyKey(request.getUserId(), idempotencyKey)
+                        .map(existing -> replayOf(existing, request))
+                        .orElseGet(() -> makeReservation(request, idempotencyKey)));
+    }
+
+    private ReservationDto makeReservation(MakeReservation.Request request, String idempotencyKey) {
+        if (request.getPeople() == null || request.getPeople() <= 0) {
+            throw new MyException(ErrorCode.RESERVATION_PEOPLE_ILLEGAL);
+        }
         UserEntity user = userRepository.findByUserId(request.getUserId())
                 .orElseThrow(() -> new MyException(ErrorCode.USER_NOT_FOUND));
-        StoreEntity store = storeRepository.findByStoreName(request.getStoreName())
+        StoreEntity store = storeIdDictionary.findStore(request.getStoreName())
                 .orElseThrow(() -> new MyException(ErrorCode.STORE_NOT_FOUND));
+
+        ReservationEntity reservation = createReservationEntity(request, user, store);
+        reservation.setIdempotencyKey(idempotencyKey);
+        acquireSeats(store, reservation);
+        ReservationEntity saved = writeReservation(reservation);
+
+        log.info("reservation id : {}", saved.getId());
+        return ReservationDto.fromEntity(saved);
+    }
+
+    /**
+     * 같은 Idempotency-Key로 저장된 예약이 요청과 같은 예약인지 확인 후 반환
+     */
+    private ReservationDto replayOf(ReservationEntity existing, MakeReservation.Request request) {
+        validateSameReservation(existing, storeIdDictionary.idOf(request.getStoreName()).orElse(null),
+                request.getPeople(), LocalDateTime.of(request.getDate(), request.getTime()));
+        log.info("Idempotent replay from DB => reservation id : {}", existing.getId());
+        return ReservationDto.fromEntity(existing);
+    }
+
+    /**
+     * 같은 Idempotency-Key로 저장된 예약과 매장, 인원 수, 시간이 다르면 RESERVATION_IDEMPOTENCY_KEY_REUSED
+     */
+    private void validateSameReservation(ReservationEntity existing, Long storeId, Integer people, LocalDateTime time) {
+        if (!Objects.equals(existing.getStoreId(), storeId)
+                || !Objects.equals(existing.getPeople(), people)
+                || !Objects.equals(existing.getTime(), time)) {
+            throw new MyException(ErrorCode.RESERVATION_IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    /**
+     * Idempotency-Key로 저장된 예약 조회 (archive 테이블 포함)
+     */
+    private Optional<ReservationEntity> findByIdempotencyKey(String userId, String idempotencyKey) {
+        return reservationIdempotencyRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                .map(ReservationIdempotencyEntity::getReservationId)
+                .flatMap(id -> reservationRepository.findById(id)
+                        .or(() -> reservationArchiveRepository.findById(id).map(ReservationArchiveEntity::toReservation)));
+    }
+
+    /**
+     * ReservationBatchWriter로 예약 저장 후 생성된 ID 설정
+     * - 저장에 실패하면 점유한 좌석 반환
+     * - Idempotency-Key가 같은 예약이 다른 서버에서 먼저 저장되어 실패한 경우 그 예약을 반환한다.
+     *   (요청한 예약과 다르면 RESERVATION_IDEMPOTENCY_KEY_REUSED)
+     * - 시간 초과 시 저장이 시작되기 전이면 취소하고 좌석을 반환한다.
+     *   이미 저장 중이면 취소할 수 없으므로 저장 결과를 기다린다. (실패로 응답한 예약이 나중에 저장되지 않도록)
+     * @return 저장된 예약
+     */
+    private ReservationEntity writeReservation(ReservationEntity reservation) {
+        CompletableFuture<Long> future = reservationBatchWriter.submit(reservation);
+        try {
+            Long id;
+            try {
+                id = future.get(RESERVATION_WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                if (future.cancel(false)) {
+                    slotCapacityLedger.release(reservation.getStoreId(), reservation.getTime(), reservation.getPeople());
+                    log.error("reservation write timeout, canceled => userId: {}", reservation.getUserId());
+                    throw new MyException(ErrorCode.RESERVATION_WRITE_FAILED);
+                }
+                log.warn("reservation write timeout, waiting for batch result => userId: {}", reservation.getUserId());
+                id = future.get();
+            }
+            reservation.setId(id);
+            return reservation;
+        } catch (ExecutionException e) {
+            slotCapacityLedger.release(reservation.getStoreId(), reservation.getTime(), reservation.getPeople());
+            if (reservation.getIdempotencyKey() != null) {
+                Optional<ReservationEntity> existing = findByIdempotencyKey(
+                        reservation.getUserId(), reservation.getIdempotencyKey());
+                if (existing.isPresent()) {
+                    validateSameReservation(existing.get(), reservation.getStoreId(),
+                            reservation.getPeople(), reservation.getTime());
+                    log.info("Idempotent replay after write conflict => reservation id : {}", existing.get().getId());
+                    return existing.get();
+                }
+            }
+            log.error("reservation write failed => userId: {}", reservation.getUserId(), e.getCause());
+            throw new MyException(ErrorCode.RESERVATION_WRITE_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (future.cancel(false)) {
+                slotCapacityLedger.release(reservation.getStoreId(), reservation.getTime(), reservation.getPeople());
+            }
+            throw new MyException(ErrorCode.RESERVATION_WRITE_FAILED);
+        }
+    }
+
+    /**
+     * 매장 예약 Request를 바탕으로 ReservationEntity 생성
+     */
+    private ReservationEntity createReservationEntity(MakeReservation.Request request, UserEntity user, StoreEntity store) {
         LocalDateTime reservationTime = LocalDateTime.of(request.getDate(), request.getTime());
 
         return ReservationEntity.builder()
                 .userId(user.getUserId())
                 .phone(user.getPhone())
                 .partnerId(store.getPartnerId())
+                .storeId(store.getId())
                 .storeName(store.getStoreName())
                 .people(request.getPeople())
                 .status(ReservationStatus.REQUESTING)
@@ -66,11 +239,22 @@ public class ReservationService {
                 .build();
     }
 
+    /**
+     * 예약 시간대의 좌석 점유
+     */
+    private void acquireSeats(StoreEntity store, ReservationEntity reservation) {
+        if (!slotCapacityLedger.tryAcquire(store.getId(), reservation.getTime(),
+                reservation.getPeople(), slotCapacityLedger.capacityOf(store))) {
+            throw new MyException(ErrorCode.RESERVATION_SLOT_FULL);
+        }
+    }
+
     /**
      * 유저/파트너 - 예약 상세 정보
      */
     public ReservationDto reservationDetail(Long id, String username) {
         ReservationEntity reservation = reservationRepository.findById(id)
+                .or(() -> reservationArchiveRepository.findById(id).map(ReservationArchiveEntity::toReservation))
                 .orElseThrow(() -> new MyException(ErrorCode.RESERVATION_NOT_FOUND));
 
         if (!validateReservationAccessAuthority(username, reservation)) {
@@ -96,57 +280,82 @@ public class ReservationService {
 
     /**
      * 파트너 - partner ID로 예약 내역 확인
+     * - RESERVATION과 archive 테이블의 예약을 합쳐서 최신 순으로 정렬한다.
      * @param partnerId 파트너 ID
      * @param page 페이지 번호
      * @return 예약 내역 페이지
      */
     public Page<ReservationDto> listForPartner(String partnerId, Integer page) {
-        Page<ReservationEntity> reservations = reservationRepository.findByPartnerIdOrderByTimeDesc(
-                partnerId, PageRequest.of(page, PageConst.RESERVATION_LIST_PAGE_SIZE));
+        Page<ReservationDto> reservations = mergePages(PageRequest.of(page, PageConst.RESERVATION_LIST_PAGE_SIZE),
+                pageable -> reservationRepository.findByPartnerIdOrderByTimeDescIdDesc(partnerId, pageable)
+                        .map(ReservationDto::fromEntity),
+                pageable -> reservationArchiveRepository.findByPartnerIdOrderByTimeDescIdDesc(partnerId, pageable)
+                        .map(ReservationDto::fromArchive), DTO_TIME_DESC);
 
         if (reservations.getSize() == 0) {
             throw new MyException(ErrorCode.RESERVATION_IS_ZERO);
         }
-        return reservations.map(ReservationDto::fromEntity);
+        return reservations;
     }
 
     /**
      * 파트너 - partner ID와 ReservationStatus로 내역 확인
+     * - 종료 상태(archive 대상)이면 archive 테이블의 예약을 합쳐서 예약 시간 순으로 정렬한다.
      * @param partnerId 파트너 ID
      * @param status 예약 상태
      * @param page 페이지 번호
      * @return 예약 내역 페이지
      */
     public Page<ReservationDto> listForPartnerByStatus(String partnerId, ReservationStatus status, Integer page) {
-        Page<ReservationEntity> reservations = reservationRepository.findByPartnerIdAndStatusOrderByTime(
-                partnerId, status, PageRequest.of(page, PageConst.RESERVATION_LIST_PAGE_SIZE));
+        PageRequest pageRequest = PageRequest.of(page, PageConst.RESERVATION_LIST_PAGE_SIZE);
+        Function<Pageable, Page<ReservationDto>> hot = pageable -> reservationRepository
+                .findByPartnerIdAndStatusOrderByTimeAscIdAsc(partnerId, status, pageable)
+                .map(ReservationDto::fromEntity);
+
+        Page<ReservationDto> reservations = !reservationArchiver.isArchivable(status) ? hot.apply(pageRequest)
+                : mergePages(pageRequest, hot, pageable -> reservationArchiveRepository
+                        .findByPartnerIdAndStatusOrderByTimeAscIdAsc(partnerId, status, pageable)
+                        .map(ReservationDto::fromArchive), DTO_TIME_ASC);
 
         if (reservations.getSize() == 0) {
             throw new MyException(ErrorCode.RESERVATION_IS_ZERO);
         }
-        return reservations.map(ReservationDto::fromEntity);
+        return reservations;
     }
 
     /**
      * 파트너 - partner ID와 예약 날짜로 내역 확인
+     * - archive 기준 시간 이전 날짜이면 archive 테이블의 예약을 합쳐서 페이지를 만든다.
      * @param partnerId 파트너 ID
      * @param date 예약 날짜
      * @param page 페이지 번호
      * @return 예약 내역 페이지
      */
     public Page<ReservationDto> listForPartnerByDate(String partnerId, LocalDate date, Integer page) {
-        Page<ReservationEntity> reservations = reservationRepository.findByPartnerIdAndTimeBetweenOrderByTime(
-                partnerId, LocalDateTime.of(date, LocalTime.MIN), LocalDateTime.of(date, LocalTime.MAX),
-                PageRequest.of(page, PageConst.RESERVATION_LIST_PAGE_SIZE));
+        LocalDateTime start = LocalDateTime.of(date, LocalTime.MIN);
+        LocalDateTime end = LocalDateTime.of(date, LocalTime.MAX);
+        PageRequest pageRequest = PageRequest.of(page, PageConst.RESERVATION_LIST_PAGE_SIZE);
+
+        Page<ReservationDto> reservations;
+        if (start.isBefore(reservationArchiver.archiveBoundary())) {
+            reservations = mergePage(pageRequest,
+                    reservationRepository.findByPartnerIdAndTimeBetweenOrderByTime(
+                            partnerId, start, end, Pageable.unpaged()).getContent(),
+                    reservationArchiveRepository.findByPartnerIdAndTimeBetweenOrderByTime(partnerId, start, end));
+        } else {
+            reservations = reservationRepository.findByPartnerIdAndTimeBetweenOrderByTime(
+                    partnerId, start, end, pageRequest).map(ReservationDto::fromEntity);
+        }
 
         if (reservations.getSize() == 0) {
             throw new MyException(ErrorCode.RESERVATION_IS_ZERO);
         }
-        return reservations.map(ReservationDto::fromEntity);
+        return reservations;
     }
 
     /**
      * 파트너 - partner ID와 예약 상태(status), 예약 날짜(time)로 내역 확인
+     * - archive 기준 시간 이전 날짜의 종료 상태이면 archive 테이블의 예약을 합쳐서 페이지를 만든다.
      * @param partnerId 파트너 ID
      * @param status 예약 상태
      * @param date 예약 날짜
@@ -154,81 +363,508 @@ public class ReservationService {
      * @return 예약 내역 페이지
      */
     public Page<ReservationDto> listForPartnerByStatusAndDate(String partnerId, ReservationStatus status, LocalDate date, Integer page) {
-        Page<ReservationEntity> reservations = reservationRepository.findByPartnerIdAndStatusAndTimeBetweenOrderByTime(
-                partnerId, status, LocalDateTime.of(date, LocalTime.MIN), LocalDateTime.of(date, LocalTime.MAX),
-                PageRequest.of(page, PageConst.RESERVATION_LIST_PAGE_SIZE));
+        LocalDateTime start = LocalDateTime.of(date, LocalTime.MIN);
+        LocalDateTime end = LocalDateTime.of(date, LocalTime.MAX);
+        PageRequest pageRequest = PageRequest.of(page, PageConst.RESERVATION_LIST_PAGE_SIZE);
+
+        Page<ReservationDto> reservations;
+        if (reservationArchiver.isArchivable(status) && start.isBefore(reservationArchiver.archiveBoundary())) {
+            reservations = mergePage(pageRequest,
+                    reservationRepository.findByPartnerIdAndStatusAndTimeBetweenOrderByTime(
+                            partnerId, status, start, end, Pageable.unpaged()).getContent(),
+                    reservationArchiveRepository.findByPartnerIdAndStatusAndTimeBetweenOrderByTime(
+                            partnerId, status, start, end));
+        } else {
+            reservations = reservationRepository.findByPartnerIdAndStatusAndTimeBetweenOrderByTime(
+                    partnerId, status, start, end, pageRequest).map(ReservationDto::fromEntity);
+        }
 
         if (reservations.getSize() == 0) {
             throw new MyException(ErrorCode.RESERVATION_IS_ZERO);
         }
-        return reservations.map(ReservationDto::fromEntity);
+        return reservations;
+    }
+
+    /**
+     * 파트너 - 예약 내역 cursor 조회 (최신 순)
+     * @param partnerId 파트너 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @return 예약 내역 cursor 페이지
+     */
+    public CursorPage<ReservationDto> cursorListForPartner(String partnerId, String cursor) {
+        ReservationCursor seek = ReservationCursor.descending(cursor);
+        List<ReservationEntity> rows = reservationRepository.seekByPartnerId(
+                partnerId, seek.getTime(), seek.getId(), cursorPageRequest());
+        if (needsArchiveDescending(rows)) {
+            rows = mergeRows(rows, reservationArchiveRepository.seekByPartnerId(
+                    partnerId, seek.getTime(), seek.getId(), cursorPageRequest()), TIME_DESC);
+        }
+        return toCursorPage(rows, cursor);
+    }
+
+    /**
+     * 파트너 - 예약 상태 별 cursor 조회
+     */
+    public CursorPage<ReservationDto> cursorListForPartnerByStatus(String partnerId, ReservationStatus status, String cursor) {
+        ReservationCursor seek = ReservationCursor.ascending(cursor);
+        List<ReservationEntity> rows = reservationRepository.seekByPartnerIdAndStatus(
+                partnerId, status, seek.getTime(), seek.getId(), cursorPageRequest());
+        if (needsArchiveAscending(seek, status, null)) {
+            rows = mergeRows(rows, reservationArchiveRepository.seekByPartnerIdAndStatus(
+                    partnerId, status, seek.getTime(), seek.getId(), cursorPageRequest()), TIME_ASC);
+        }
+        return toCursorPage(rows, cursor);
+    }
+
+    /**
+     * 파트너 - 예약 날짜 별 cursor 조회
+     */
+    public CursorPage<ReservationDto> cursorListForPartnerByDate(String partnerId, LocalDate date, String cursor) {
+        ReservationCursor seek = ReservationCursor.ascending(cursor);
+        LocalDateTime start = LocalDateTime.of(date, LocalTime.MIN);
+        LocalDateTime end = LocalDateTime.of(date, LocalTime.MAX);
+        List<ReservationEntity> rows = reservationRepository.seekByPartnerIdAndTimeBetween(
+                partnerId, start, end, seek.getTime(), seek.getId(), cursorPageRequest());
+        if (needsArchiveAscending(seek, null, start)) {
+            rows = mergeRows(rows, reservationArchiveRepository.seekByPartnerIdAndTimeBetween(
+                    partnerId, start, end, seek.getTime(), seek.getId(), cursorPageRequest()), TIME_ASC);
+        }
+        return toCursorPage(rows, cursor);
+    }
+
+    /**
+     * 파트너 - 예약 상태, 날짜 별 cursor 조회
+     */
+    public CursorPage<ReservationDto> cursorListForPartnerByStatusAndDate(
+            String partnerId, ReservationStatus status, LocalDate date, String cursor) {
+        ReservationCursor seek = ReservationCursor.ascending(cursor);
+        LocalDateTime start = LocalDateTime.of(date, LocalTime.MIN);
+        LocalDateTime end = LocalDateTime.of(date, LocalTime.MAX);
+        List<ReservationEntity> rows = reservationRepository.seekByPartnerIdAndStatusAndTimeBetween(
+                partnerId, status, start, end, seek.getTime(), seek.getId(), cursorPageRequest());
+        if (needsArchiveAscending(seek, status, start)) {
+            rows = mergeRows(rows, reservationArchiveRepository.seekByPartnerIdAndStatusAndTimeBetween(
+                    partnerId, status, start, end, seek.getTime(), seek.getId(), cursorPageRequest()), TIME_ASC);
+        }
+        return toCursorPage(rows, cursor);
     }
 
     /**
      * 파트너 - 예약 상태 변경
+     * - ReservationStatus의 상태 전이 규칙에 맞는 경우에만 조건부 UPDATE 한 번으로 변경한다.
+     * - REFUSED, NO_SHOW로 변경되면 커밋 후 좌석 반환, 해당 시간대의 대기를 예약으로 전환
      * @param partnerId 파트너 ID
      * @param reservationId 예약 ID
      * @param status 예약 상태
+     * @return 변경된 예약 상세 정보
      */
-    public void changeReservationStatus(String partnerId, Long reservationId, ReservationStatus status) {
+    public ReservationDto changeReservationStatus(String partnerId, Long reservationId, ReservationStatus status) {
+        EnumSet<ReservationStatus> from = status.previousStatuses();
+        if (from.isEmpty()) {
+            throw new MyException(ErrorCode.RESERVATION_STATUS_TRANSITION_ILLEGAL);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = reservationRepository.updateStatus(reservationId, partnerId, from, status, now);
         ReservationEntity reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new MyException(ErrorCode.RESERVATION_NOT_FOUND));
 
-        if (!reservation.getPartnerId().equals(partnerId)) {
-            throw new MyException(ErrorCode.RESERVATION_UPDATE_AUTH_FAIL);
+        if (updated == 0) {
+            if (!reservation.getPartnerId().equals(partnerId)) {
+                throw new MyException(ErrorCode.RESERVATION_UPDATE_AUTH_FAIL);
+            }
+            throw new MyException(ErrorCode.RESERVATION_STATUS_TRANSITION_ILLEGAL);
+        }
+
+        if (!status.holdsSeat()) {
+            slotCapacityLedger.releaseAfterCommit(
+                    reservation.getStoreId(), reservation.getTime(), reservation.getPeople());
+            waitlistService.promoteAfterCommit(reservation.getStoreId(), reservation.getTime());
+        }
+        todayReservationBoard.refreshAfterCommit(reservation, status);
+        reservationOutboxRepository.save(ReservationOutboxEntity.of(reservation, status, now));
+        return ReservationDto.fromEntity(reservation);
+    }
+
+    /**
+     * 파트너 - 예약 상태 일괄 변경
+     * - 대상 예약을 SELECT ... FOR UPDATE 로 한 번에 조회한 뒤, 변경 가능한 예약만 UPDATE 한 번으로 변경한다.
+     * - 대상 지정 : 예약 ID 목록 또는 예약 날짜 (+ 현재 상태, 생략 시 변경 가능한 모든 상태)
+     * @param partnerId 파트너 ID
+     * @param request 일괄 변경 요청
+     * @return 예약 ID 별 변경 결과
+     */
+    public BulkChangeReservation.Response changeReservationStatusBulk(String partnerId, BulkChangeReservation.Request request) {
+        ReservationStatus status = ReservationStatus.of(request.getStatus());
+        EnumSet<ReservationStatus> from = status.previousStatuses();
+        if (from.isEmpty()) {
+            throw new MyException(ErrorCode.RESERVATION_STATUS_TRANSITION_ILLEGAL);
+        }
+
+        List<Long> requestedIds;
+        List<ReservationEntity> targets;
+        if (!CollectionUtils.isEmpty(request.getReservationIds())) {
+            requestedIds = request.getReservationIds().stream().distinct().collect(Collectors.toList());
+            validateBulkSize(requestedIds.size());
+            targets = reservationRepository.findAllByIdInAndPartnerIdForUpdate(requestedIds, partnerId);
+            if (targets.size() < requestedIds.size()) {
+                // 파트너의 예약이 아닌 ID는 잠그지 않고 조회만 해서 NO_AUTHORITY / NOT_FOUND를 구분한다.
+                Set<Long> found = targets.stream().map(ReservationEntity::getId).collect(Collectors.toSet());
+                targets = new ArrayList<>(targets);
+                targets.addAll(reservationRepository.findAllById(requestedIds.stream()
+                        .filter(id -> !found.contains(id))
+                        .collect(Collectors.toList())));
+            }
+        } else if (request.getDate() != null) {
+            EnumSet<ReservationStatus> statuses = StringUtils.hasText(request.getFromStatus())
+                    ? EnumSet.of(ReservationStatus.of(request.getFromStatus())) : from;
+            LocalDateTime start = LocalDateTime.of(request.getDate(), LocalTime.MIN);
+            LocalDateTime end = LocalDateTime.of(request.getDate(), LocalTime.MAX);
+            // 잠그기 전에 대상 수를 확인하고, 잠금 조회도 최대 개수 + 1개로 제한한다. (count 이후 늘어난 경우)
+            validateBulkSize(reservationRepository.countByPartnerIdAndStatusInAndTimeBetween(
+                    partnerId, statuses, start, end));
+            targets = reservationRepository.findByPartnerIdAndStatusInAndTimeBetweenForUpdate(
+                    partnerId, statuses, start, end, PageRequest.of(0, RESERVATION_BULK_MAX_SIZE + 1));
+            validateBulkSize(targets.size());
+            requestedIds = targets.stream().map(ReservationEntity::getId).collect(Collectors.toList());
+        } else {
+            throw new MyException(ErrorCode.RESERVATION_BULK_TARGET_REQUIRED);
+        }
+
+        Map<Long, ReservationEntity> targetMap = targets.stream()
+                .collect(Collectors.toMap(ReservationEntity::getId, Function.identity()));
+        List<BulkChangeReservation.Result> results = new ArrayList<>(requestedIds.size());
+        List<ReservationEntity> updatable = new ArrayList<>();
+
+        for (Long id : requestedIds) {
+            BulkChangeResult result = bulkChangeResultOf(targetMap.get(id), partnerId, from);
+            if (result == BulkChangeResult.UPDATED) {
+                updatable.add(targetMap.get(id));
+            }
+            results.add(new BulkChangeReservation.Result(id, result));
+        }
+
+        int updatedCount = 0;
+        if (!updatable.isEmpty()) {
+            List<Long> updatableIds = updatable.stream().map(ReservationEntity::getId).collect(Collectors.toList());
+            LocalDateTime now = LocalDateTime.now();
+            updatedCount = reservationRepository.updateStatusBulk(updatableIds, partnerId, from, status, now);
+            if (!status.holdsSeat()) {
+                updatable.forEach(reservation -> slotCapacityLedger.releaseAfterCommit(
+                        reservation.getStoreId(), reservation.getTime(), reservation.getPeople()));
+                updatable.stream()
+                        .map(reservation -> Map.entry(reservation.getStoreId(), reservation.getTime()))
+                        .distinct()
+                        .forEach(slot -> waitlistService.promoteAfterCommit(slot.getKey(), slot.getValue()));
+            }
+            updatable.forEach(reservation -> todayReservationBoard.refreshAfterCommit(reservation, status));
+            reservationOutboxRepository.saveAll(updatable.stream()
+                    .map(reservation -> ReservationOutboxEntity.of(reservation, status, now))
+                    .collect(Collectors.toList()));
+        }
+        log.info("Bulk status change => partnerId: {}, status: {}, updated: {}", partnerId, status, updatedCount);
+
+        return BulkChangeReservation.Response.builder()
+                .status(status.name())
+                .updatedCount(updatedCount)
+                .results(results)
+                .build();
+    }
+
+    private void validateBulkSize(long size) {
+        if (size > RESERVATION_BULK_MAX_SIZE) {
+            throw new MyException(ErrorCode.RESERVATION_BULK_SIZE_EXCEEDED);
+        }
+    }
+
+    /**
+     * 일괄 변경 대상 예약의 변경 가능 여부
+     */
+    private BulkChangeResult bulkChangeResultOf(ReservationEntity reservation, String partnerId,
+                                                EnumSet<ReservationStatus> from) {
+        if (reservation == null) {
+            return BulkChangeResult.NOT_FOUND;
+        } else if (!reservation.getPartnerId().equals(partnerId)) {
+            return BulkChangeResult.NO_AUTHORITY;
+        } else if (!from.contains(reservation.getStatus())) {
+            return BulkChangeResult.ILLEGAL_TRANSITION;
         }
-        reservation.setStatus(status);
-        reservation.setStatusUpdatedAt(LocalDateTime.now());
-        reservationRepository.save(reservation);
+        return BulkChangeResult.UPDATED;
     }
 
     /**
      * 유저 - user ID로 예약 내역 확인
+     * - RESERVATION과 archive 테이블의 예약을 합쳐서 최신 순으로 정렬한다.
      * @param userId 유저 ID
      * @param page 페이지 번호
      * @return 예약 내역 페이지
      */
     public Page<ReservationDto> listForUser(String userId, Integer page) {
-        Page<ReservationEntity> reservations = reservationRepository.findByUserIdOrderByTimeDesc(
-                userId, PageRequest.of(page, PageConst.RESERVATION_LIST_PAGE_SIZE));
+        Page<ReservationDto> reservations = mergePages(PageRequest.of(page, PageConst.RESERVATION_LIST_PAGE_SIZE),
+                pageable -> reservationRepository.findByUserIdOrderByTimeDescIdDesc(userId, pageable)
+                        .map(ReservationDto::fromEntity),
+                pageable -> reservationArchiveRepository.findByUserIdOrderByTimeDescIdDesc(userId, pageable)
+                        .map(ReservationDto::fromArchive), DTO_TIME_DESC);
 
         if (reservations.getSize() == 0) {
             throw new MyException(ErrorCode.RESERVATION_IS_ZERO);
         }
-        return reservations.map(ReservationDto::fromEntity);
+        return reservations;
     }
 
     /**
      * 유저 - userId와 ReservationStatus로 내역 확인
+     * - 종료 상태(archive 대상)이면 archive 테이블의 예약을 합쳐서 예약 시간 순으로 정렬한다.
      * @param userId 유저 ID
      * @param page 페이지 번호
      * @param status 예약 상태
      * @return 예약 내역 페이지
      */
     public Page<ReservationDto> listForUserByStatus(String userId, Integer page, ReservationStatus status) {
-        Page<ReservationEntity> reservations = reservationRepository.findByUserIdAndStatusOrderByTime(
-                userId, status, PageRequest.of(page, PageConst.RESERVATION_LIST_PAGE_SIZE));
+        PageRequest pageRequest = PageRequest.of(page, PageConst.RESERVATION_LIST_PAGE_SIZE);
+        Function<Pageable, Page<ReservationDto>> hot = pageable -> reservationRepository
+                .findByUserIdAndStatusOrderByTimeAscIdAsc(userId, status, pageable)
+                .map(ReservationDto::fromEntity);
+
+        Page<ReservationDto> reservations = !reservationArchiver.isArchivable(status) ? hot.apply(pageRequest)
+                : mergePages(pageRequest, hot, pageable -> reservationArchiveRepository
+                        .findByUserIdAndStatusOrderByTimeAscIdAsc(userId, status, pageable)
+                        .map(ReservationDto::fromArchive), DTO_TIME_ASC);
 
         if (reservations.getSize() == 0) {
             throw new MyException(ErrorCode.RESERVATION_IS_ZERO);
         }
-        return reservations.map(ReservationDto::fromEntity);
+        return reservations;
+    }
+
+    /**
+     * 유저 - 예약 내역 cursor 조회 (최신 순)
+     * @param userId 유저 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @return 예약 내역 cursor 페이지
+     */
+    public CursorPage<ReservationDto> cursorListForUser(String userId, String cursor) {
+        ReservationCursor seek = ReservationCursor.descending(cursor);
+        List<ReservationEntity> rows = reservationRepository.seekByUserId(
+                userId, seek.getTime(), seek.getId(), cursorPageRequest());
+        if (needsArchiveDescending(rows)) {
+            rows = mergeRows(rows, reservationArchiveRepository.seekByUserId(
+                    userId, seek.getTime(), seek.getId(), cursorPageRequest()), TIME_DESC);
+        }
+        return toCursorPage(rows, cursor);
+    }
+
+    /**
+     * 유저 - 예약 상태 별 cursor 조회
+     */
+    public CursorPage<ReservationDto> cursorListForUserByStatus(String userId, ReservationStatus status, String cursor) {
+        ReservationCursor seek = ReservationCursor.ascending(cursor);
+        List<ReservationEntity> rows = reservationRepository.seekByUserIdAndStatus(
+                userId, status, seek.getTime(), seek.getId(), cursorPageRequest());
+        if (needsArchiveAscending(seek, status, null)) {
+            rows = mergeRows(rows, reservationArchiveRepository.seekByUserIdAndStatus(
+                    userId, status, seek.getTime(), seek.getId(), cursorPageRequest()), TIME_ASC);
+        }
+        return toCursorPage(rows, cursor);
+    }
+
+    /**
+     * 같은 순서로 정렬된 RESERVATION, archive 조회 결과를 (예약 시간, ID) 순서로 합친 offset 페이지
+     * - 진행 중 상태(REQUESTING, CONFIRM, ARRIVED)의 오래된 예약은 archive되지 않으므로
+     *   두 결과의 시간 범위가 겹칠 수 있다. 각각 (offset + size)개를 조회해서 합친 후 offset만큼 건너뛴다.
+     */
+    private Page<ReservationDto> mergePages(PageRequest pageRequest,
+                                            Function<Pageable, Page<ReservationDto>> hot,
+                                            Function<Pageable, Page<ReservationDto>> archived,
+                                            Comparator<ReservationDto> order) {
+        PageRequest prefix = PageRequest.of(0, (int) pageRequest.getOffset() + pageRequest.getPageSize());
+        Page<ReservationDto> hotPage = hot.apply(prefix);
+        Page<ReservationDto> archivedPage = archived.apply(prefix);
+
+        List<ReservationDto> merged = new ArrayList<>(hotPage.getContent());
+        merged.addAll(archivedPage.getContent());
+        merged.sort(order);
+        List<ReservationDto> content = merged.stream()
+                .skip(pageRequest.getOffset())
+                .limit(pageRequest.getPageSize())
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageRequest, hotPage.getTotalElements() + archivedPage.getTotalElements());
+    }
+
+    /**
+     * 하루치 RESERVATION, archive 조회 결과를 예약 시간 순으로 합친 offset 페이지
+     */
+    private Page<ReservationDto> mergePage(PageRequest pageRequest, List<ReservationEntity> rows,
+                                           List<ReservationArchiveEntity> archived) {
+        List<ReservationEntity> merged = new ArrayList<>(rows);
+        archived.forEach(archive -> merged.add(archive.toReservation()));
+        merged.sort(TIME_ASC);
+
+        List<ReservationDto> content = merged.stream()
+                .skip(pageRequest.getOffset())
+                .limit(pageRequest.getPageSize())
+                .map(ReservationDto::fromEntity)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageRequest, merged.size());
+    }
+
+    /**
+     * 최신 순 cursor 조회에서 archive 테이블도 조회해야 하는지 여부
+     * - archive의 예약은 모두 archive 기준 시간 이전이므로, RESERVATION 조회 결과가 가득 차 있고
+     *   마지막 행이 기준 시간 이후이면 archive의 행이 이 페이지에 들어올 수 없다.
+     */
+    private boolean needsArchiveDescending(List<ReservationEntity> rows) {
+        return rows.size() <= PageConst.RESERVATION_LIST_PAGE_SIZE
+                || rows.get(rows.size() - 1).getTime().isBefore(reservationArchiver.archiveBoundary());
+    }
+
+    /**
+     * 예약 시간 순 cursor 조회에서 archive 테이블도 조회해야 하는지 여부
+     * @param status 상태 조건 (없으면 null)
+     * @param start 날짜 조건의 시작 시간 (없으면 null)
+     */
+    private boolean needsArchiveAscending(ReservationCursor seek, ReservationStatus status, LocalDateTime start) {
+        LocalDateTime boundary = reservationArchiver.archiveBoundary();
+        return seek.getTime().isBefore(boundary)
+                && (status == null || reservationArchiver.isArchivable(status))
+                && (start == null || start.isBefore(boundary));
+    }
+
+    /**
+     * RESERVATION, archive cursor 조회 결과를 정렬 순서대로 합쳐서 (size + 1)개까지 반환
+     */
+    private List<ReservationEntity> mergeRows(List<ReservationEntity> rows, List<ReservationArchiveEntity> archived,
+                                              Comparator<ReservationEntity> order) {
+        if (archived.isEmpty()) {
+            return rows;
+        }
+        List<ReservationEntity> merged = new ArrayList<>(rows);
+        archived.forEach(archive -> merged.add(archive.toReservation()));
+        merged.sort(order);
+        int limit = PageConst.RESERVATION_LIST_PAGE_SIZE + 1;
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 (size + 1)개 조회
+     */
+    private PageRequest cursorPageRequest() {
+        return PageRequest.of(0, PageConst.RESERVATION_LIST_PAGE_SIZE + 1);
+    }
+
+    /**
+     * 조회 결과를 cursor 페이지로 변환
+     * - 첫 페이지(cursor가 없거나 빈 문자열)부터 결과가 없으면 RESERVATION_IS_ZERO
+     */
+    private CursorPage<ReservationDto> toCursorPage(List<ReservationEntity> rows, String cursor) {
+        if (rows.isEmpty() && !StringUtils.hasText(cursor)) {
+            throw new MyException(ErrorCode.RESERVATION_IS_ZERO);
+        }
+        return CursorPage.of(rows, PageConst.RESERVATION_LIST_PAGE_SIZE, ReservationCursor::encode)
+                .map(ReservationDto::fromEntity);
     }
 
     /**
      * 도착 확인
+     * - 오늘의 CONFIRM 예약이면 TodayReservationBoard에서 전화번호, 시간을 확인한 뒤 조건부 UPDATE만 실행한다.
+     * - 보드에 없거나 보드가 DB와 달라 변경되지 않으면 DB 조회로 확인한다.
      * @param reservationId 예약 ID
      * @param inputPhoneNumberLast4 전화번호 마지막 4자리
      * @return 예약 상세 정보
      */
     public ReservationDto arrivedCheck(Long reservationId, String inputPhoneNumberLast4) {
+        if (!isPhoneNumberLast4(inputPhoneNumberLast4)) {
+            throw new MyException(ErrorCode.RESERVATION_PHONE_NUMBER_INCORRECT);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Optional<TodayReservationBoard.BoardEntry> entry = todayReservationBoard.find(reservationId);
+        if (entry.isPresent()) {
+            validateArrivedCheck(entry.get(), inputPhoneNumberLast4, now);
+            if (updateStatusForArrival(reservationId, inputPhoneNumberLast4, now) == 1) {
+                todayReservationBoard.removeAfterCommit(reservationId);
+                ReservationDto arrived = arrivedReservationOf(entry.get(), now);
+                reservationOutboxRepository.save(ReservationOutboxEntity.of(arrived, now));
+                return arrived;
+            }
+        } else if (updateStatusForArrival(reservationId, inputPhoneNumberLast4, now) == 1) {
+            ReservationEntity arrived = reservationRepository.findById(reservationId)
+                    .orElseThrow(() -> new MyException(ErrorCode.RESERVATION_NOT_FOUND));
+            reservationOutboxRepository.save(ReservationOutboxEntity.of(arrived, ReservationStatus.ARRIVED, now));
+            return ReservationDto.fromEntity(arrived);
+        }
+
         ReservationEntity reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new MyException(ErrorCode.RESERVATION_NOT_FOUND));
         validateArrivedCheck(reservation, inputPhoneNumberLast4);
-        reservation.setStatus(ReservationStatus.ARRIVED);
-        reservation.setStatusUpdatedAt(LocalDateTime.now());
-        reservationRepository.save(reservation);
-        return ReservationDto.fromEntity(reservation);
+        throw new MyException(ErrorCode.RESERVATION_STATUS_CHECK_ERROR);
+    }
+
+    /**
+     * 조건부 UPDATE로 CONFIRM -> ARRIVED 변경 (전화번호, 상태, 시간 조건 포함)
+     * @return 변경된 행 수 (0 또는 1)
+     */
+    private int updateStatusForArrival(Long reservationId, String inputPhoneNumberLast4, LocalDateTime now) {
+        return reservationRepository.updateStatusForArrival(reservationId, "%" + inputPhoneNumberLast4,
+                now.plusMinutes(10L), ReservationStatus.CONFIRM, ReservationStatus.ARRIVED, now);
+    }
+
+    /**
+     * 보드의 예약 정보로 도착 완료된 예약 DTO 생성 (전화번호 제외)
+     */
+    private ReservationDto arrivedReservationOf(TodayReservationBoard.BoardEntry entry, LocalDateTime now) {
+        return ReservationDto.builder()
+                .id(entry.getId())
+                .userId(entry.getUserId())
+                .partnerId(entry.getPartnerId())
+                .storeName(entry.getStoreName())
+                .people(entry.getPeople())
+                .status(ReservationStatus.ARRIVED)
+                .statusUpdatedAt(now)
+                .time(entry.getTime())
+                .build();
+    }
+
+    /**
+     * 키오스크 - 전화번호 뒷 4자리로 오늘의 CONFIRM 예약 조회
+     * @param partnerId 파트너 ID
+     * @param phoneNumberLast4 전화번호 마지막 4자리
+     * @return 일치하는 예약 목록 (예약 시간 순)
+     */
+    public List<KioskReservation> kioskLookup(String partnerId, String phoneNumberLast4) {
+        if (!isPhoneNumberLast4(phoneNumberLast4)) {
+            throw new MyException(ErrorCode.RESERVATION_PHONE_NUMBER_INCORRECT);
+        }
+
+        List<KioskReservation> reservations = todayReservationBoard.findByPhoneNumberLast4(partnerId, phoneNumberLast4)
+                .stream()
+                .map(KioskReservation::fromEntry)
+                .sorted(Comparator.comparing(KioskReservation::getTime))
+                .collect(Collectors.toList());
+
+        if (reservations.isEmpty()) {
+            throw new MyException(ErrorCode.RESERVATION_IS_ZERO);
+        }
+        return reservations;
+    }
+
+    /**
+     * 입력값이 숫자 4자리인지 확인 (LIKE 패턴 문자 방지)
+     */
+    private boolean isPhoneNumberLast4(String input) {
+        return input != null && input.length() == 4 && input.chars().allMatch(Character::isDigit);
+    }
+
+    /**
+     * 도착 확인 validation - TodayReservationBoard (CONFIRM 상태는 보드에 있는 것으로 확인됨)
+     */
+    private void validateArrivedCheck(TodayReservationBoard.BoardEntry entry, String inputPhoneNumberLast4,
+                                      LocalDateTime now) {
+        if (!entry.matchesPhoneNumberLast4(inputPhoneNumberLast4)) {
+            throw new MyException(ErrorCode.RESERVATION_PHONE_NUMBER_INCORRECT);
+        } else if (now.isAfter(entry.getTime().minusMinutes(10L))) {
+            throw new MyException(ErrorCode.RESERVATION_TIME_CHECK_ERROR);
+        }
     }
 
     /**
@@ -0,0 +1,391 @@
+package com.example.storereservation.domain.reservation.service;
+
+import com.example.storereservation.domain.reservation.capacity.SlotCapacityLedger;
+import com.example.storereservation.domain.reservation.dto.MakeReservation;
+import com.example.storereservation.domain.reservation.dto.WaitlistDto;
+import com.example.storereservation.domain.reservation.persist.ReservationBatchWriter;
+import com.example.storereservation.domain.reservation.persist.ReservationEntity;
+import com.example.storereservation.domain.reservation.persist.ReservationIdempotencyEntity;
+import com.example.storereservation.domain.reservation.persist.ReservationIdempotencyRepository;
+import com.example.storereservation.domain.reservation.persist.WaitlistEntity;
+import com.example.storereservation.domain.reservation.persist.WaitlistRepository;
+import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import com.example.storereservation.domain.reservation.type.WaitlistStatus;
+import com.example.storereservation.domain.store.index.StoreIdDictionary;
+import com.example.storereservation.domain.store.persist.StoreEntity;
+import com.example.storereservation.domain.store.persist.StoreRepository;
+import com.example.storereservation.domain.user.persist.UserEntity;
+import com.example.storereservation.domain.user.persist.UserRepository;
+import com.example.storereservation.global.exception.ErrorCode;
+import com.example.storereservation.global.exception.MyException;
+import com.example.storereservation.global.util.TransactionUtils;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 대기 (waitlist)
+ * - 좌석이 가득 찬 시간대에 대기 등록하면 (매장, slot) 별 lock-free 큐에 순서대로 들어간다.
+ * - 예약이 REFUSED / NO_SHOW 로 변경되어 좌석이 반환되면 큐의 맨 앞부터 좌석을 점유하고 예약 요청(REQUESTING)으로 전환한다.
+ * - 대기 정보는 RESERVATION_WAITLIST 테이블에 저장되고, 서버 시작 시 WAITING 상태의 대기로 큐를 다시 만든다.
+ * - 전환된 예약은 Idempotency-Key("waitlist:{대기 ID}")로 저장하므로 재시작 후 다시 전환되어도 중복 예약이 생기지 않는다.
+ * - 예약을 저장하기 전에 대기 상태를 WAITING -> PROMOTED로 먼저 변경(선점)하므로 취소된 대기는 전환되지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class WaitlistService {
+    private static final long PROMOTION_WRITE_TIMEOUT_SECONDS = 5L;
+    private static final String PROMOTION_KEY_PREFIX = "waitlist:";
+
+    private final WaitlistRepository waitlistRepository;
+    private final ReservationIdempotencyRepository reservationIdempotencyRepository;
+    private final ReservationBatchWriter reservationBatchWriter;
+    private final UserRepository userRepository;
+    private final StoreRepository storeRepository;
+    private final StoreIdDictionary storeIdDictionary;
+    private final SlotCapacityLedger slotCapacityLedger;
+    private final ThreadPoolTaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<SlotKey, Deque<WaitingEntry>> queues = new ConcurrentHashMap<>();
+
+    /**
+     * 서버 시작 시 WAITING 상태의 대기로 큐 재구성 (등록 순)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<WaitlistEntity> waiting = waitlistRepository.findByStatusAndTimeGreaterThanEqualOrderById(
+                WaitlistStatus.WAITING, LocalDateTime.now());
+
+        queues.clear();
+        waiting.forEach(waitlist -> queueOf(waitlist.getStoreId(), waitlist.getTime())
+                .offerLast(WaitingEntry.of(waitlist)));
+        log.info("Waitlist restore complete => waiting: {}, slots: {}", waiting.size(), queues.size());
+    }
+
+    /**
+     * 유저 - 예약 대기 등록
+     * - 좌석이 남아 있으면 WAITLIST_SLOT_AVAILABLE (바로 예약)
+     * @param request 예약 요청 정보
+     * @return 대기 정보 (대기 순서 포함)
+     */
+    public WaitlistDto join(MakeReservation.Request request) {
+        if (request.getPeople() == null || request.getPeople() <= 0) {
+            throw new MyException(ErrorCode.RESERVATION_PEOPLE_ILLEGAL);
+        }
+        UserEntity user = userRepository.findByUserId(request.getUserId())
+                .orElseThrow(() -> new MyException(ErrorCode.USER_NOT_FOUND));
+        StoreEntity store = storeIdDictionary.findStore(request.getStoreName())
+                .orElseThrow(() -> new MyException(ErrorCode.STORE_NOT_FOUND));
+        LocalDateTime time = LocalDateTime.of(request.getDate(), request.getTime());
+
+        if (slotCapacityLedger.remaining(store.getId(), time, slotCapacityLedger.capacityOf(store))
+                >= request.getPeople()) {
+            throw new MyException(ErrorCode.WAITLIST_SLOT_AVAILABLE);
+        }
+        WaitlistEntity waitlist;
+        try {
+            waitlist = waitlistRepository.saveAndFlush(WaitlistEntity.builder()
+                    .userId(user.getUserId())
+                    .phone(user.getPhone())
+                    .partnerId(store.getPartnerId())
+                    .storeId(store.getId())
+                    .storeName(store.getStoreName())
+                    .people(request.getPeople())
+                    .time(time)
+                    .status(WaitlistStatus.WAITING)
+                    .statusUpdatedAt(LocalDateTime.now())
+                    .waiting(true)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new MyException(ErrorCode.WAITLIST_ALREADY_JOINED);
+        }
+
+        Deque<WaitingEntry> queue = queueOf(waitlist.getStoreId(), waitlist.getTime());
+        WaitingEntry entry = WaitingEntry.of(waitlist);
+        TransactionUtils.afterCommit(() -> queue.offerLast(entry));
+        log.info("Waitlist join => id: {}, storeId: {}, time: {}", waitlist.getId(), waitlist.getStoreId(), time);
+
+        long ahead = waitlistRepository.countAhead(waitlist.getStoreId(), WaitlistStatus.WAITING,
+                slotCapacityLedger.slotOf(time), slotCapacityLedger.nextSlotOf(time), waitlist.getId());
+        return WaitlistDto.fromEntity(waitlist, (int) ahead + 1);
+    }
+
+    /**
+     * 유저 - 예약 대기 취소
+     */
+    public void cancel(String userId, Long waitlistId) {
+        WaitlistEntity waitlist = waitlistRepository.findById(waitlistId)
+                .orElseThrow(() -> new MyException(ErrorCode.WAITLIST_NOT_FOUND));
+        int updated = waitlistRepository.updateStatusByUser(
+                waitlistId, userId, WaitlistStatus.WAITING, WaitlistStatus.CANCELED, LocalDateTime.now());
+        if (updated == 0) {
+            throw new MyException(ErrorCode.WAITLIST_NOT_FOUND);
+        }
+
+        Deque<WaitingEntry> queue = queues.get(new SlotKey(waitlist.getStoreId(),
+                slotCapacityLedger.slotOf(waitlist.getTime())));
+        if (queue != null) {
+            TransactionUtils.afterCommit(() -> queue.removeIf(entry -> entry.waitlistId == waitlistId));
+        }
+    }
+
+    /**
+     * 유저 - 대기 중인 목록 (대기 순서 포함)
+     */
+    public List<WaitlistDto> waitingList(String userId) {
+        return waitlistRepository.findByUserIdAndStatusOrderByTime(userId, WaitlistStatus.WAITING).stream()
+                .map(waitlist -> WaitlistDto.fromEntity(waitlist, positionOf(waitlist)))
+                .collect(Collectors.toList());
+    }
+
+    private Integer positionOf(WaitlistEntity waitlist) {
+        Deque<WaitingEntry> queue = queues.get(new SlotKey(waitlist.getStoreId(),
+                slotCapacityLedger.slotOf(waitlist.getTime())));
+        if (queue == null) {
+            return null;
+        }
+        int position = 1;
+        for (WaitingEntry entry : queue) {
+            if (entry.waitlistId == waitlist.getId()) {
+                return position;
+            }
+            position++;
+        }
+        return null;
+    }
+
+    /**
+     * 트랜잭션이 커밋된 후 해당 시간대의 대기를 예약으로 전환 (별도 스레드)
+     * - 좌석이 반환되는 상태 변경(REFUSED, NO_SHOW) 후 호출된다.
+     */
+    public void promoteAfterCommit(Long storeId, LocalDateTime time) {
+        if (!queues.containsKey(new SlotKey(storeId, slotCapacityLedger.slotOf(time)))) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> taskScheduler.execute(() -> promote(storeId, time)));
+    }
+
+    /**
+     * 큐의 맨 앞 대기부터 좌석을 점유할 수 있는 만큼 예약으로 전환
+     * - 맨 앞 대기의 인원 수만큼 좌석이 없으면 멈춘다. (순서 보장)
+     * - 여러 스레드가 동시에 실행해도 큐에서 먼저 꺼낸 스레드만 전환한다.
+     * - DB에서 선점(WAITING -> PROMOTED)하지 못한 대기(취소 / 만료)는 좌석을 반환하고 건너뛴다.
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void promote(Long storeId, LocalDateTime time) {
+        Deque<WaitingEntry> queue = queues.get(new SlotKey(storeId, slotCapacityLedger.slotOf(time)));
+        Optional<StoreEntity> store = storeRepository.findById(storeId);
+        if (queue == null || store.isEmpty()) {
+            return;
+        }
+        int capacity = slotCapacityLedger.capacityOf(store.get());
+
+        WaitingEntry head;
+        while ((head = queue.peekFirst()) != null && !Thread.currentThread().isInterrupted()) {
+            if (!slotCapacityLedger.tryAcquire(storeId, head.time, head.people, capacity)) {
+                return;
+            }
+            if (!queue.remove(head)) {
+                slotCapacityLedger.release(storeId, head.time, head.people);
+                continue;
+            }
+            boolean claimed;
+            try {
+                claimed = claim(head);
+            } catch (RuntimeException e) {
+                log.error("Waitlist claim failed => waitlistId: {}", head.waitlistId, e);
+                slotCapacityLedger.release(storeId, head.time, head.people);
+                queue.offerFirst(head);
+                return;
+            }
+            if (!claimed) {
+                slotCapacityLedger.release(storeId, head.time, head.people);
+                continue;
+            }
+            if (!promoteEntry(head)) {
+                queue.offerFirst(head);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 대기 선점 (WAITING -> PROMOTED)
+     * @return 이미 취소 / 만료되어 선점하지 못하면 false
+     */
+    private boolean claim(WaitingEntry entry) {
+        Integer claimed = transactionTemplate.execute(status -> waitlistRepository.updateStatus(
+                entry.waitlistId, WaitlistStatus.WAITING, WaitlistStatus.PROMOTED, LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            log.info("Waitlist no longer waiting, skipped => waitlistId: {}", entry.waitlistId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 선점한 대기를 예약 요청으로 저장하고 대기에 예약 ID 저장
+     * - 저장되지 않은 것이 확실하면(실패, 저장 시작 전 취소) 좌석을 반환하고 대기를 WAITING으로 되돌린 후 false
+     * - 시간 초과 시 이미 저장 중이면 저장 결과를 기다린다. (저장된 예약이 점유한 좌석을 반환하지 않도록)
+     * - 예약이 저장된 후의 오류(예약 ID 저장 실패)는 좌석을 그대로 두고 로그만 남긴다.
+     * @return 대기를 큐에 되돌려야 하면 false
+     */
+    private boolean promoteEntry(WaitingEntry entry) {
+        ReservationEntity reservation = ReservationEntity.builder()
+                .userId(entry.userId)
+                .phone(entry.phone)
+                .partnerId(entry.partnerId)
+                .storeId(entry.storeId)
+                .storeName(entry.storeName)
+                .people(entry.people)
+                .status(ReservationStatus.REQUESTING)
+                .statusUpdatedAt(LocalDateTime.now())
+                .time(entry.time)
+                .idempotencyKey(PROMOTION_KEY_PREFIX + entry.waitlistId)
+                .build();
+
+        CompletableFuture<Long> future = reservationBatchWriter.submit(reservation);
+        Long reservationId;
+        try {
+            try {
+                reservationId = future.get(PROMOTION_WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                if (future.cancel(false)) {
+                    log.error("Waitlist promotion write timeout, canceled => waitlistId: {}", entry.waitlistId);
+                    return revertClaim(entry);
+                }
+                log.warn("Waitlist promotion write timeout, waiting for batch result => waitlistId: {}",
+                        entry.waitlistId);
+                reservationId = future.get();
+            }
+        } catch (ExecutionException e) {
+            // 이전에 이미 저장된 예약(unique 제약 조건 위반)은 그 예약이 좌석을 점유하고 있다.
+            Optional<Long> existing = findPromotedReservationId(reservation);
+            if (existing.isEmpty()) {
+                log.error("Waitlist promotion write failed => waitlistId: {}", entry.waitlistId, e.getCause());
+                return revertClaim(entry);
+            }
+            slotCapacityLedger.release(entry.storeId, entry.time, entry.people);
+            reservationId = existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (future.cancel(false)) {
+                return revertClaim(entry);
+            }
+            // 저장 중이라 결과를 알 수 없으므로 실패한 경우에만 좌석 반환 (대기는 PROMOTED로 남는다)
+            future.whenComplete((id, error) -> {
+                if (error != null) {
+                    slotCapacityLedger.release(entry.storeId, entry.time, entry.people);
+                }
+            });
+            log.warn("Waitlist promotion interrupted during write => waitlistId: {}", entry.waitlistId);
+            return true;
+        }
+
+        Long savedReservationId = reservationId;
+        try {
+            transactionTemplate.execute(status -> waitlistRepository.updateReservationId(
+                    entry.waitlistId, WaitlistStatus.PROMOTED, savedReservationId));
+        } catch (RuntimeException e) {
+            log.error("Waitlist reservation id update failed => waitlistId: {}, reservationId: {}",
+                    entry.waitlistId, savedReservationId, e);
+        }
+        log.info("Waitlist promoted => waitlistId: {}, reservationId: {}", entry.waitlistId, savedReservationId);
+        return true;
+    }
+
+    /**
+     * Idempotency-Key로 이전에 저장된 전환 예약 ID 조회 (조회 실패 시 없음)
+     */
+    private Optional<Long> findPromotedReservationId(ReservationEntity reservation) {
+        try {
+            return reservationIdempotencyRepository.findByUserIdAndIdempotencyKey(
+                            reservation.getUserId(), reservation.getIdempotencyKey())
+                    .map(ReservationIdempotencyEntity::getReservationId);
+        } catch (RuntimeException e) {
+            log.error("Waitlist promotion lookup failed => key: {}", reservation.getIdempotencyKey(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 예약이 저장되지 않은 선점 되돌리기 (좌석 반환, PROMOTED -> WAITING)
+     * - 되돌리지 못해도 큐에 다시 넣는다. (다음 전환 때 선점에 실패하면 건너뛴다)
+     */
+    private boolean revertClaim(WaitingEntry entry) {
+        slotCapacityLedger.release(entry.storeId, entry.time, entry.people);
+        try {
+            transactionTemplate.execute(status -> waitlistRepository.updateStatus(
+                    entry.waitlistId, WaitlistStatus.PROMOTED, WaitlistStatus.WAITING, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.error("Waitlist claim revert failed => waitlistId: {}", entry.waitlistId, e);
+        }
+        return false;
+    }
+
+    /**
+     * 지나간 시간대의 대기 종료 (EXPIRED)
+     * @param time 기준 시간
+     * @return 종료된 대기 수
+     */
+    public int expireBefore(LocalDateTime time) {
+        LocalDateTime slot = slotCapacityLedger.slotOf(time);
+        queues.keySet().removeIf(key -> key.slot.isBefore(slot));
+        return waitlistRepository.updateStatusByTimeBefore(
+                WaitlistStatus.WAITING, WaitlistStatus.EXPIRED, time, LocalDateTime.now());
+    }
+
+    private Deque<WaitingEntry> queueOf(Long storeId, LocalDateTime time) {
+        return queues.computeIfAbsent(new SlotKey(storeId, slotCapacityLedger.slotOf(time)),
+                key -> new ConcurrentLinkedDeque<>());
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class SlotKey {
+        private final Long storeId;
+        private final LocalDateTime slot;
+    }
+
+    @AllArgsConstructor
+    private static class WaitingEntry {
+        private final long waitlistId;
+        private final String userId;
+        private final String phone;
+        private final String partnerId;
+        private final Long storeId;
+        private final String storeName;
+        private final int people;
+        private final LocalDateTime time;
+
+        private static WaitingEntry of(WaitlistEntity waitlist) {
+            return new WaitingEntry(waitlist.getId(), waitlist.getUserId(), waitlist.getPhone(),
+                    waitlist.getPartnerId(), waitlist.getStoreId(), waitlist.getStoreName(), waitlist.getPeople(),
+                    waitlist.getTime());
+        }
+    }
+}
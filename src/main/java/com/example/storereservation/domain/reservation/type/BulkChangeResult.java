@@ -0,0 +1,23 @@
+package com.example.storereservation.domain.reservation.type;
+
+public enum BulkChangeResult {
+    /**
+     * 상태 변경 완료
+     */
+    UPDATED,
+
+    /**
+     * 예약이 존재하지 않음
+     */
+    NOT_FOUND,
+
+    /**
+     * 해당 파트너의 예약이 아님
+     */
+    NO_AUTHORITY,
+
+    /**
+     * 현재 상태에서 변경할 수 없는 상태
+     */
+    ILLEGAL_TRANSITION
+}
@@ -4,6 +4,8 @@ import com.example.storereservation.global.exception.ErrorCode;
 import com.example.storereservation.global.exception.MyException;
 import org.springframework.util.StringUtils;
 
+import java.util.EnumSet;
+
 public enum ReservationStatus {
     /**
      * 예약 요청 중
@@ -60,4 +62,56 @@ public enum ReservationStatus {
 
         throw new MyException(ErrorCode.RESERVATION_STATUS_CODE_ILLEGAL_ARGUMENT);
     }
+
+    /**
+     * 예약 상태 전이 규칙
+     * - REQUESTING -> CONFIRM, REFUSED
+     * - CONFIRM -> ARRIVED, NO_SHOW, REFUSED
+     * - ARRIVED -> USE_COMPLETE
+     * - REFUSED, USE_COMPLETE, NO_SHOW 는 더 이상 변경할 수 없다.
+     * @return 현재 상태에서 변경 가능한 상태 목록
+     */
+    public EnumSet<ReservationStatus> nextStatuses() {
+        switch (this) {
+            case REQUESTING:
+                return EnumSet.of(CONFIRM, REFUSED);
+            case CONFIRM:
+                return EnumSet.of(ARRIVED, NO_SHOW, REFUSED);
+            case ARRIVED:
+                return EnumSet.of(USE_COMPLETE);
+            default:
+                return EnumSet.noneOf(ReservationStatus.class);
+        }
+    }
+
+    /**
+     * 해당 상태로 변경될 수 있는 이전 상태 목록
+     * - 조건부 UPDATE의 WHERE status IN (...) 조건으로 사용된다.
+     */
+    public EnumSet<ReservationStatus> previousStatuses() {
+        EnumSet<ReservationStatus> previous = EnumSet.noneOf(ReservationStatus.class);
+        for (ReservationStatus rs : ReservationStatus.values()) {
+            if (rs.nextStatuses().contains(this)) {
+                previous.add(rs);
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * 해당 상태의 예약이 매장 좌석을 점유하고 있는지 여부
+     * - REFUSED, NO_SHOW 상태가 되면 좌석이 반환된다.
+     * @return 좌석을 점유하면 true
+     */
+    public boolean holdsSeat() {
+        return this != REFUSED && this != NO_SHOW && this != T_E_S_T;
+    }
+
+    /**
+     * 더 이상 변경되지 않는 상태인지 여부 (REFUSED, USE_COMPLETE, NO_SHOW)
+     * - 보관 기간이 지나면 archive 테이블로 옮겨진다.
+     */
+    public boolean isTerminal() {
+        return this != T_E_S_T && nextStatuses().isEmpty();
+    }
 }
@@ -0,0 +1,23 @@
+package com.example.storereservation.domain.reservation.type;
+
+public enum WaitlistStatus {
+    /**
+     * 대기 중
+     */
+    WAITING,
+
+    /**
+     * 좌석이 생겨 예약 요청(REQUESTING)으로 전환됨
+     */
+    PROMOTED,
+
+    /**
+     * 유저가 대기 취소
+     */
+    CANCELED,
+
+    /**
+     * 예약 시간이 지나 대기 종료
+     */
+    EXPIRED
+}
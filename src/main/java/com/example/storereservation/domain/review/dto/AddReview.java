@@ -1,7 +1,5 @@
 package com.example.storereservation.domain.review.dto;
 
-import com.example.storereservation.domain.reservation.persist.ReservationEntity;
-import com.example.storereservation.domain.review.persist.ReviewEntity;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,17 +16,6 @@ public class AddReview {
     public static class Request {
         private double rating;
         private String text;
-
-        public static ReviewEntity toEntity(Request request, ReservationEntity reservation) {
-            return ReviewEntity.builder()
-                    .reservationId(reservation.getId())
-                    .userId(reservation.getUserId())
-                    .storeName(reservation.getStoreName())
-                    .rating(request.getRating())
-                    .text(request.getText())
-                    .createdAt(LocalDateTime.now())
-                    .build();
-        }
     }
 
     @Data
@@ -0,0 +1,64 @@
+package com.example.storereservation.domain.review.dto;
+
+import com.example.storereservation.domain.review.persist.ReviewEntity;
+import com.example.storereservation.global.exception.ErrorCode;
+import com.example.storereservation.global.exception.MyException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 매장 리뷰 목록 cursor (createdAt, rating, id)
+ * - 최신 순은 (createdAt, id), 별점 순은 (rating, id) 기준으로 이어서 조회한다.
+ * - 클라이언트에는 Base64 문자열로 전달된다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewCursor {
+    private static final String DELIMITER = "|";
+
+    /**
+     * 최신 순 / 별점 높은 순 첫 페이지 (모든 리뷰보다 뒤)
+     */
+    private static final ReviewCursor DESC_FIRST =
+            new ReviewCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Double.MAX_VALUE, Long.MAX_VALUE);
+
+    /**
+     * 별점 낮은 순 첫 페이지 (모든 리뷰보다 앞)
+     */
+    private static final ReviewCursor ASC_FIRST =
+            new ReviewCursor(LocalDateTime.of(1000, 1, 1, 0, 0), -Double.MAX_VALUE, 0L);
+
+    private final LocalDateTime createdAt;
+    private final double rating;
+    private final Long id;
+
+    public static ReviewCursor descending(String cursor) {
+        return StringUtils.hasText(cursor) ? decode(cursor) : DESC_FIRST;
+    }
+
+    public static ReviewCursor ascending(String cursor) {
+        return StringUtils.hasText(cursor) ? decode(cursor) : ASC_FIRST;
+    }
+
+    public static String encode(ReviewEntity review) {
+        String raw = review.getCreatedAt() + DELIMITER + review.getRating() + DELIMITER + review.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ReviewCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = raw.split("\\|");
+            return new ReviewCursor(
+                    LocalDateTime.parse(values[0]), Double.parseDouble(values[1]), Long.parseLong(values[2]));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new MyException(ErrorCode.CURSOR_ILLEGAL_ARGUMENT);
+        }
+    }
+}
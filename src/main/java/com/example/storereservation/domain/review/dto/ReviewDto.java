@@ -16,6 +16,7 @@ public class ReviewDto {
     private Long id;
     private Long reservationId;
     private String userId;
+    private Long storeId;
     private String storeName;
     private double rating;
     private String text;
@@ -27,6 +28,7 @@ public class ReviewDto {
                 .id(reviewEntity.getId())
                 .reservationId(reviewEntity.getReservationId())
                 .userId(reviewEntity.getUserId())
+                .storeId(reviewEntity.getStoreId())
                 .storeName(reviewEntity.getStoreName())
                 .rating(reviewEntity.getRating())
                 .text(reviewEntity.getText())
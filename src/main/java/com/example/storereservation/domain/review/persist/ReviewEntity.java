@@ -6,6 +6,9 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 
 @Getter
@@ -14,6 +17,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @Entity(name = "REVIEW")
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_review_reservation", columnNames = {"reservation_id"})
+}, indexes = {
+        @Index(name = "idx_review_store_created_at", columnList = "store_id, created_at, id"),
+        @Index(name = "idx_review_store_rating", columnList = "store_id, rating, id")
+})
 public class ReviewEntity {
 
     @Id
@@ -21,6 +30,11 @@ public class ReviewEntity {
     private Long id;
     private Long reservationId;
     private String userId;
+
+    /**
+     * 매장 ID (STORE.id) - storeName은 리뷰 작성 당시 매장 명 (표시용)
+     */
+    private Long storeId;
     private String storeName;
     private double rating;
     private String text;
@@ -3,13 +3,62 @@ package com.example.storereservation.domain.review.persist;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ReviewRepository extends JpaRepository<ReviewEntity, Long> {
-    boolean existsByReservationId(Long reservationId);
+    Optional<ReviewEntity> findByReservationId(Long reservationId);
     Page<ReviewEntity> findByUserIdOrderByCreatedAtDesc(String userId, Pageable pageable);
-    Page<ReviewEntity> findByStoreNameOrderByCreatedAtDesc(String storeName, Pageable pageable);
-    Page<ReviewEntity> findByStoreNameOrderByRatingDesc(String storeName, Pageable pageable);
-    Page<ReviewEntity> findByStoreNameOrderByRatingAsc(String storeName, Pageable pageable);
+    Page<ReviewEntity> findByStoreIdOrderByCreatedAtDesc(Long storeId, Pageable pageable);
+    Page<ReviewEntity> findByStoreIdOrderByRatingDesc(Long storeId, Pageable pageable);
+    Page<ReviewEntity> findByStoreIdOrderByRatingAsc(Long storeId, Pageable pageable);
+
+    /*
+     * cursor(seek) 조회 - cursor 다음 행부터 조회한다. (store_id, created_at, id) / (store_id, rating, id) 인덱스 사용
+     * Pageable은 조회 개수 제한으로만 사용한다. (count 쿼리 없음)
+     */
+
+    @Query("select r from REVIEW r where r.storeId = :storeId"
+            + " and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))"
+            + " order by r.createdAt desc, r.id desc")
+    List<ReviewEntity> seekByStoreIdOrderByCreatedAtDesc(
+            @Param("storeId") Long storeId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            Pageable pageable);
+
+    @Query("select r from REVIEW r where r.storeId = :storeId"
+            + " and (r.rating < :rating or (r.rating = :rating and r.id < :id))"
+            + " order by r.rating desc, r.id desc")
+    List<ReviewEntity> seekByStoreIdOrderByRatingDesc(
+            @Param("storeId") Long storeId, @Param("rating") double rating, @Param("id") Long id, Pageable pageable);
+
+    @Query("select r from REVIEW r where r.storeId = :storeId"
+            + " and (r.rating > :rating or (r.rating = :rating and r.id > :id))"
+            + " order by r.rating, r.id")
+    List<ReviewEntity> seekByStoreIdOrderByRatingAsc(
+            @Param("storeId") Long storeId, @Param("rating") double rating, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 이용 완료된 본인 예약에 대한 리뷰 작성 (INSERT ... SELECT 한 번)
+     * - 예약은 RESERVATION, RESERVATION_ARCHIVE 중 있는 곳에서 읽고, 본인 예약 / 이용 완료 조건을 함께 확인한다.
+     * - 같은 예약의 리뷰는 uk_review_reservation으로 막는다. (DataIntegrityViolationException)
+     * @return 작성된 행 수 (조건에 맞지 않으면 0)
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO review"
+            + " (reservation_id, user_id, store_id, store_name, rating, text, created_at)"
+            + " SELECT r.id, r.user_id, r.store_id, r.store_name, :rating, :text, :now"
+            + " FROM (SELECT id, user_id, store_id, store_name, status FROM reservation WHERE id = :reservationId"
+            + " UNION ALL SELECT id, user_id, store_id, store_name, status FROM reservation_archive"
+            + " WHERE id = :reservationId) r"
+            + " WHERE r.user_id = :userId AND r.status = 'USE_COMPLETE'")
+    int insertForCompletedReservation(@Param("reservationId") Long reservationId, @Param("userId") String userId,
+                                      @Param("rating") double rating, @Param("text") String text,
+                                      @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -0,0 +1,357 @@
+package com.example.storereservation.domain.review.search;
+
+import com.example.storereservation.domain.review.persist.ReviewEntity;
+import com.example.storereservation.domain.review.persist.ReviewRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리뷰 본문 검색 인덱스 (매장 별 역색인, BM25)
+ * - 한글은 음절 2-gram, 영문 / 숫자는 단어 단위로 나눈다.
+ * - posting은 (문서 번호 차이, 단어 빈도)를 가변 길이 정수로 압축한 byte 배열로 보관한다.
+ * - 리뷰가 수정되면 기존 문서를 삭제 표시하고 새 문서로 추가한다.
+ *   삭제된 문서가 남은 문서보다 많아지면 posting을 다시 압축한다.
+ * - IDF는 삭제되지 않은 문서 수(단어 별 live 문서 빈도)로 계산하므로 압축 전후 점수가 같다.
+ * - 서버 시작 시 전체 리뷰로 만들고, 리뷰 작성 / 수정 시 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewSearchIndex {
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReviewRepository reviewRepository;
+
+    private final Map<Long, StoreIndex> stores = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        stores.clear();
+        int count = 0;
+        Page<ReviewEntity> chunk;
+        int page = 0;
+        do {
+            chunk = reviewRepository.findAll(PageRequest.of(page++, LOAD_CHUNK_SIZE, Sort.by("id")));
+            for (ReviewEntity review : chunk) {
+                put(review);
+                count++;
+            }
+        } while (chunk.hasNext());
+        log.info("ReviewSearchIndex rebuild complete => reviews: {}, stores: {}", count, stores.size());
+    }
+
+    /**
+     * 리뷰 추가 / 수정
+     */
+    public void put(ReviewEntity review) {
+        if (review.getStoreId() == null || review.getText() == null) {
+            return;
+        }
+        stores.computeIfAbsent(review.getStoreId(), key -> new StoreIndex()).put(review);
+    }
+
+    /**
+     * 매장 리뷰 검색 (BM25 점수 순)
+     * @param storeId 매장 ID
+     * @param query 검색어
+     * @param minRating 최소 별점 (null이면 조건 없음)
+     * @param offset 건너뛸 개수
+     * @param limit 반환할 개수
+     * @return 점수 순 리뷰 ID와 점수
+     */
+    public List<SearchHit> search(long storeId, String query, Double minRating, int offset, int limit) {
+        StoreIndex index = stores.get(storeId);
+        if (index == null) {
+            return new ArrayList<>();
+        }
+        return index.search(tokenize(query), minRating, offset, limit);
+    }
+
+    /**
+     * 한글은 음절 2-gram (한 글자 단어는 그대로), 그 외는 단어 단위
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (!containsHangul(word) || word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean containsHangul(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.UnicodeScript.of(word.charAt(i)) == Character.UnicodeScript.HANGUL) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SearchHit {
+        private final long reviewId;
+        private final double score;
+    }
+
+    /**
+     * 매장 하나의 역색인 (문서 번호 = 추가된 순서)
+     */
+    private static class StoreIndex {
+        private long[] reviewIds = new long[16];
+        private float[] ratings = new float[16];
+        private int[] lengths = new int[16];
+        private String[][] terms = new String[16][];
+        private final BitSet deleted = new BitSet();
+        private int docCount;
+        private int deletedCount;
+        private int liveCount;
+        private long liveLength;
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<Long, Integer> docOf = new HashMap<>();
+
+        private synchronized void put(ReviewEntity review) {
+            Integer previous = docOf.remove(review.getId());
+            if (previous != null) {
+                delete(previous);
+            }
+
+            List<String> tokens = tokenize(review.getText());
+            int doc = docCount++;
+            if (doc == reviewIds.length) {
+                int capacity = reviewIds.length * 2;
+                reviewIds = Arrays.copyOf(reviewIds, capacity);
+                ratings = Arrays.copyOf(ratings, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                terms = Arrays.copyOf(terms, capacity);
+            }
+            reviewIds[doc] = review.getId();
+            ratings[doc] = (float) review.getRating();
+            lengths[doc] = tokens.size();
+            docOf.put(review.getId(), doc);
+            liveCount++;
+            liveLength += tokens.size();
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            tokens.forEach(token -> frequencies.merge(token, 1, Integer::sum));
+            terms[doc] = frequencies.keySet().toArray(new String[0]);
+            frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, key -> new Postings()).add(doc, tf));
+
+            if (deletedCount > liveCount && docCount > 64) {
+                compact();
+            }
+        }
+
+        /**
+         * 삭제 표시 후 문서에 포함된 단어의 live 문서 빈도 감소
+         */
+        private void delete(int doc) {
+            deleted.set(doc);
+            deletedCount++;
+            liveCount--;
+            liveLength -= lengths[doc];
+            for (String term : terms[doc]) {
+                postings.get(term).liveCount--;
+            }
+            terms[doc] = null;
+        }
+
+        private synchronized List<SearchHit> search(List<String> tokens, Double minRating, int offset, int limit) {
+            if (liveCount == 0 || tokens.isEmpty()) {
+                return new ArrayList<>();
+            }
+            double averageLength = Math.max(1.0, (double) liveLength / liveCount);
+            float[] scores = new float[docCount];
+
+            for (String term : new LinkedHashSet<>(tokens)) {
+                Postings list = postings.get(term);
+                if (list == null || list.liveCount == 0) {
+                    continue;
+                }
+                double idf = Math.log(1 + (liveCount - list.liveCount + 0.5) / (list.liveCount + 0.5));
+                list.forEach((doc, tf) -> {
+                    if (deleted.get(doc) || (minRating != null && ratings[doc] < minRating)) {
+                        return;
+                    }
+                    double norm = tf + K1 * (1 - B + B * lengths[doc] / averageLength);
+                    scores[doc] += (float) (idf * tf * (K1 + 1) / norm);
+                });
+            }
+
+            // 점수가 낮은 순서로 꺼내는 heap에 상위 (offset + limit)개만 유지
+            int wanted = offset + limit;
+            Comparator<SearchHit> worstFirst = Comparator.comparingDouble(SearchHit::getScore)
+                    .thenComparing(SearchHit::getReviewId);
+            PriorityQueue<SearchHit> top = new PriorityQueue<>(worstFirst);
+            for (int doc = 0; doc < docCount; doc++) {
+                if (scores[doc] <= 0) {
+                    continue;
+                }
+                SearchHit hit = new SearchHit(reviewIds[doc], scores[doc]);
+                if (top.size() < wanted) {
+                    top.offer(hit);
+                } else if (worstFirst.compare(hit, top.peek()) > 0) {
+                    top.poll();
+                    top.offer(hit);
+                }
+            }
+
+            List<SearchHit> sorted = new ArrayList<>(top);
+            sorted.sort(worstFirst.reversed());
+            return offset >= sorted.size() ? new ArrayList<>() : sorted.subList(offset, sorted.size());
+        }
+
+        /**
+         * 삭제된 문서를 제외하고 문서 번호를 다시 매긴 후 posting 재압축 (순서 유지)
+         */
+        private void compact() {
+            int[] remap = new int[docCount];
+            int next = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (deleted.get(doc)) {
+                    remap[doc] = -1;
+                    continue;
+                }
+                remap[doc] = next;
+                reviewIds[next] = reviewIds[doc];
+                ratings[next] = ratings[doc];
+                lengths[next] = lengths[doc];
+                terms[next] = terms[doc];
+                docOf.put(reviewIds[next], next);
+                next++;
+            }
+
+            Set<String> emptyTerms = new LinkedHashSet<>();
+            postings.forEach((term, list) -> {
+                Postings compacted = new Postings();
+                list.forEach((doc, tf) -> {
+                    if (remap[doc] >= 0) {
+                        compacted.add(remap[doc], tf);
+                    }
+                });
+                if (compacted.count == 0) {
+                    emptyTerms.add(term);
+                } else {
+                    list.replaceWith(compacted);
+                }
+            });
+            emptyTerms.forEach(postings::remove);
+
+            Arrays.fill(terms, next, docCount, null);
+            docCount = next;
+            deletedCount = 0;
+            deleted.clear();
+        }
+    }
+
+    /**
+     * (문서 번호 차이, 단어 빈도)를 가변 길이 정수(7bit)로 이어 붙인 posting
+     * - count는 posting의 문서 수, liveCount는 그중 삭제되지 않은 문서 수 (IDF 계산용)
+     */
+    static class Postings {
+        private byte[] data = new byte[8];
+        private int size;
+        private int lastDoc;
+        private int count;
+        private int liveCount;
+
+        /**
+         * @param doc 문서 번호 (이전에 추가한 문서 번호보다 커야 한다)
+         */
+        void add(int doc, int tf) {
+            writeVInt(doc - lastDoc);
+            writeVInt(tf);
+            lastDoc = doc;
+            count++;
+            liveCount++;
+        }
+
+        void forEach(PostingConsumer consumer) {
+            int position = 0;
+            int doc = 0;
+            for (int i = 0; i < count; i++) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+
+                int tf = 0;
+                shift = 0;
+                do {
+                    b = data[position++];
+                    tf |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+
+                doc += delta;
+                consumer.accept(doc, tf);
+            }
+        }
+
+        private void replaceWith(Postings other) {
+            data = other.data;
+            size = other.size;
+            lastDoc = other.lastDoc;
+            count = other.count;
+            liveCount = other.liveCount;
+        }
+
+        private void writeVInt(int value) {
+            while (true) {
+                if (size == data.length) {
+                    data = Arrays.copyOf(data, data.length * 2);
+                }
+                if ((value & ~0x7F) == 0) {
+                    data[size++] = (byte) value;
+                    return;
+                }
+                data[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(int doc, int tf);
+    }
+}
@@ -1,25 +1,37 @@
 package com.example.storereservation.domain.review.service;
 
+import com.example.storereservation.domain.reservation.persist.ReservationArchiveEntity;
+import com.example.storereservation.domain.reservation.persist.ReservationArchiveRepository;
 import com.example.storereservation.domain.reservation.persist.ReservationEntity;
 import com.example.storereservation.domain.reservation.persist.ReservationRepository;
-import com.example.storereservation.domain.reservation.type.ReservationStatus;
 import com.example.storereservation.domain.review.dto.AddReview;
 import com.example.storereservation.domain.review.dto.EditReview;
+import com.example.storereservation.domain.review.dto.ReviewCursor;
 import com.example.storereservation.domain.review.dto.ReviewDto;
 import com.example.storereservation.domain.review.persist.ReviewEntity;
 import com.example.storereservation.domain.review.persist.ReviewRepository;
+import com.example.storereservation.domain.review.search.ReviewSearchIndex;
+import com.example.storereservation.domain.store.index.StoreIdDictionary;
 import com.example.storereservation.domain.store.service.StoreService;
-import com.example.storereservation.domain.user.persist.UserRepository;
+import com.example.storereservation.global.dto.CursorPage;
 import com.example.storereservation.global.exception.ErrorCode;
 import com.example.storereservation.global.exception.MyException;
 import com.example.storereservation.global.type.PageConst;
 import com.example.storereservation.global.type.ReviewSortType;
+import com.example.storereservation.global.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Transactional
@@ -28,11 +40,16 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final ReservationRepository reservationRepository;
-    private final UserRepository userRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
     private final StoreService storeService;
+    private final StoreIdDictionary storeIdDictionary;
+    private final ReviewSearchIndex reviewSearchIndex;
 
     /**
      * 리뷰 쓰기
+     * - 예약 확인과 리뷰 저장을 INSERT ... SELECT 한 번으로 처리하고, 저장된 리뷰를 예약 ID(unique)로 읽는다.
+     * - 같은 예약에 대한 리뷰는 unique 제약(uk_review_reservation)으로 막는다. (동시 요청도 하나만 저장)
+     * - 저장되지 않았을 때만 예약을 조회해서 실패 이유를 확인한다.
      * @param reservationId 예약 ID
      * @param userId 유저 ID
      * @param request 리뷰 작성 요청 정보
@@ -40,38 +57,42 @@ public class ReviewService {
      */
     @Transactional
     public ReviewDto addReview(Long reservationId, String userId, AddReview.Request request) {
-        ReservationEntity reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new MyException(ErrorCode.RESERVATION_NOT_FOUND));
-
-        validateReviewAvailable(reservation, userId);
         validateReviewDetail(request.getRating(), request.getText());
 
-        ReviewEntity review = AddReview.Request.toEntity(request, reservation);
-        ReviewEntity savedReview = reviewRepository.save(review);
+        int inserted;
+        try {
+            inserted = reviewRepository.insertForCompletedReservation(
+                    reservationId, userId, request.getRating(), request.getText(), LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw new MyException(ErrorCode.REVIEW_ALREADY_EXIST);
+        }
+        if (inserted == 0) {
+            throw reviewNotAvailable(reservationId, userId);
+        }
 
-        storeService.updateRatingForAddReview(ReviewDto.fromEntity(savedReview)); // 매장 리뷰 업데이트
+        ReviewEntity savedReview = reviewRepository.findByReservationId(reservationId)
+                .orElseThrow(() -> new MyException(ErrorCode.REVIEW_NOT_FOUND));
+
+        storeService.updateRatingForAddReview(ReviewDto.fromEntity(savedReview)); // 매장 별점 변경 저장 (비동기 반영)
+        TransactionUtils.afterCommit(() -> reviewSearchIndex.put(savedReview));
 
         return ReviewDto.fromEntity(savedReview);
     }
 
     /**
-     * 해당 리뷰를 쓸 권한이 있는지 검증
-     * @param reservation 예약 엔티티
+     * 리뷰가 저장되지 않은 이유 확인 (예약 없음 / 본인 예약 아님 / 이용 완료 전)
+     * @param reservationId 예약 ID
      * @param userId 유저 ID
      */
-    private void validateReviewAvailable(ReservationEntity reservation, String userId) {
-        if (!userRepository.existsByUserId(userId)) {
-            throw new MyException(ErrorCode.USER_NOT_FOUND);
-        }
+    private MyException reviewNotAvailable(Long reservationId, String userId) {
+        ReservationEntity reservation = reservationRepository.findById(reservationId)
+                .or(() -> reservationArchiveRepository.findById(reservationId).map(ReservationArchiveEntity::toReservation))
+                .orElseThrow(() -> new MyException(ErrorCode.RESERVATION_NOT_FOUND));
+
         if (!reservation.getUserId().equals(userId)) {
-            throw new MyException(ErrorCode.NO_AUTHORITY_ERROR);
-        }
-        if (reviewRepository.existsByReservationId(reservation.getId())) {
-            throw new MyException(ErrorCode.REVIEW_ALREADY_EXIST);
-        }
-        if (!reservation.getStatus().equals(ReservationStatus.USE_COMPLETE)) {
-            throw new MyException(ErrorCode.REVIEW_NOT_AVAILABLE);
+            return new MyException(ErrorCode.NO_AUTHORITY_ERROR);
         }
+        return new MyException(ErrorCode.REVIEW_NOT_AVAILABLE);
     }
 
     /**
@@ -106,21 +127,24 @@ public class ReviewService {
 
     /**
      * 리뷰 리스트 조회 by storeName
+     * - 상점 이름을 매장 ID로 바꾼 후 매장 ID로 조회한다.
      * @param storeName 상점 이름
      * @param sortType 정렬 타입
      * @param page 페이지 번호
      * @return 상점 리뷰 리스트 페이지
      */
     public Page<ReviewDto> reviewListByStoreName(String storeName, ReviewSortType sortType, Integer page) {
+        Long storeId = storeIdDictionary.idOf(storeName)
+                .orElseThrow(() -> new MyException(ErrorCode.REVIEW_NOT_FOUND));
         PageRequest pageRequest = PageRequest.of(page, PageConst.REVIEW_LIST_PAGE_SIZE);
         Page<ReviewEntity> findList;
 
         if (sortType.equals(ReviewSortType.RATING_DESC)) {
-            findList = reviewRepository.findByStoreNameOrderByRatingDesc(storeName, pageRequest);
+            findList = reviewRepository.findByStoreIdOrderByRatingDesc(storeId, pageRequest);
         } else if (sortType.equals(ReviewSortType.RATING_ASC)) {
-            findList = reviewRepository.findByStoreNameOrderByRatingAsc(storeName, pageRequest);
+            findList = reviewRepository.findByStoreIdOrderByRatingAsc(storeId, pageRequest);
         } else {
-            findList = reviewRepository.findByStoreNameOrderByCreatedAtDesc(storeName, pageRequest);
+            findList = reviewRepository.findByStoreIdOrderByCreatedAtDesc(storeId, pageRequest);
         }
 
         if (findList.getNumberOfElements() == 0) {
@@ -129,6 +153,67 @@ public class ReviewService {
         return findList.map(ReviewDto::fromEntity);
     }
 
+    /**
+     * 리뷰 cursor 조회 by storeName
+     * - offset 페이징과 달리 페이지가 깊어져도 조회 속도가 일정하다.
+     * @param storeName 상점 이름
+     * @param sortType 정렬 타입
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @return 상점 리뷰 cursor 페이지
+     */
+    public CursorPage<ReviewDto> cursorListByStoreName(String storeName, ReviewSortType sortType, String cursor) {
+        Long storeId = storeIdDictionary.idOf(storeName)
+                .orElseThrow(() -> new MyException(ErrorCode.REVIEW_NOT_FOUND));
+        PageRequest pageRequest = PageRequest.of(0, PageConst.REVIEW_LIST_PAGE_SIZE + 1);
+        List<ReviewEntity> rows;
+
+        if (sortType == ReviewSortType.RATING_DESC) {
+            ReviewCursor seek = ReviewCursor.descending(cursor);
+            rows = reviewRepository.seekByStoreIdOrderByRatingDesc(storeId, seek.getRating(), seek.getId(), pageRequest);
+        } else if (sortType == ReviewSortType.RATING_ASC) {
+            ReviewCursor seek = ReviewCursor.ascending(cursor);
+            rows = reviewRepository.seekByStoreIdOrderByRatingAsc(storeId, seek.getRating(), seek.getId(), pageRequest);
+        } else {
+            ReviewCursor seek = ReviewCursor.descending(cursor);
+            rows = reviewRepository.seekByStoreIdOrderByCreatedAtDesc(
+                    storeId, seek.getCreatedAt(), seek.getId(), pageRequest);
+        }
+
+        if (rows.isEmpty() && !StringUtils.hasText(cursor)) {
+            throw new MyException(ErrorCode.REVIEW_NOT_FOUND);
+        }
+        return CursorPage.of(rows, PageConst.REVIEW_LIST_PAGE_SIZE, ReviewCursor::encode).map(ReviewDto::fromEntity);
+    }
+
+    /**
+     * 매장 리뷰 본문 검색 (BM25 점수 순)
+     * - ReviewSearchIndex에서 리뷰 ID를 찾은 후 해당 리뷰만 조회한다.
+     * @param storeName 상점 이름
+     * @param query 검색어
+     * @param minRating 최소 별점 (null이면 조건 없음)
+     * @param page 페이지 번호
+     * @return 검색된 리뷰 리스트
+     */
+    public List<ReviewDto> searchByStoreName(String storeName, String query, Double minRating, Integer page) {
+        Long storeId = storeIdDictionary.idOf(storeName)
+                .orElseThrow(() -> new MyException(ErrorCode.REVIEW_NOT_FOUND));
+        int size = PageConst.REVIEW_LIST_PAGE_SIZE;
+        List<ReviewSearchIndex.SearchHit> hits = reviewSearchIndex.search(storeId, query, minRating, size * page, size);
+        if (hits.isEmpty()) {
+            throw new MyException(ErrorCode.REVIEW_NOT_FOUND);
+        }
+
+        Map<Long, ReviewEntity> reviews = reviewRepository.findAllById(
+                        hits.stream().map(ReviewSearchIndex.SearchHit::getReviewId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(ReviewEntity::getId, Function.identity()));
+
+        return hits.stream()
+                .filter(hit -> reviews.containsKey(hit.getReviewId()))
+                .map(hit -> ReviewDto.fromEntity(reviews.get(hit.getReviewId())))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 리뷰 수정
      * @param reviewId 리뷰 ID
@@ -152,6 +237,7 @@ public class ReviewService {
         reviewEntity.setText(request.getText());
         ReviewEntity savedReview = reviewRepository.save(reviewEntity);
         ReviewDto editedReview = ReviewDto.fromEntity(savedReview);
+        TransactionUtils.afterCommit(() -> reviewSearchIndex.put(savedReview));
 
         storeService.updateRatingForEditReview(editedReview, oldRating);
 
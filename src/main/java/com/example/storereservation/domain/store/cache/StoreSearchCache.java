@@ -0,0 +1,134 @@
+package com.example.storereservation.domain.store.cache;
+
+import com.example.storereservation.domain.store.dto.StoreListQuery;
+import com.example.storereservation.domain.store.persist.StoreRatingHistogram;
+import com.example.storereservation.global.type.StoreSortType;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 매장 검색 결과 캐시
+ * - 정규화된 검색 조건(매장 명, 정렬, 페이지, grid cell 중심으로 맞춘 위치, 별점 분포 조건)을 key로 ttl-seconds 동안 보관한다.
+ * - 위치는 DISTANCE, RECOMMEND 정렬에서만 key에 포함된다. 같은 cell 안의 검색은 같은 결과를 받는다.
+ * - 매장 등록 / 수정 시 전체를 비운다. 별점 변경은 비우지 않고 ttl-seconds가 지나 다시 계산될 때 반영된다.
+ *   각 결과는 계산을 시작할 때의 세대(generation)를 가지며, 현재 세대와 다른 결과는 반환하지 않는다.
+ *   (비우는 중에 계산된 결과가 비운 후에 저장되어도 사용되지 않음)
+ * - max-entries를 넘으면 만료된 결과부터 지우고, 그래도 많으면 임의의 결과를 지운다.
+ */
+@Slf4j
+@Component
+public class StoreSearchCache {
+
+    @Value("${store.search-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${store.search-cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${store.search-cache.cell-degrees:0.005}")
+    private double cellDegrees;
+
+    private final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    /**
+     * 검색 조건 정규화
+     * - 매장 명 : 앞뒤 공백 제거, 소문자 (DB / 인덱스 검색 모두 대소문자를 구분하지 않음)
+     * - 위치 : 거리를 사용하는 정렬이면 grid cell 중심, 아니면 0
+     * - 별점 분포 조건 : minStar는 1 ~ 5, minStarRatio는 0 ~ 1 (minStar가 없으면 둘 다 null)
+     */
+    public StoreListQuery normalize(StoreListQuery input) {
+        String storeName = input.getStoreName() == null ? "" : input.getStoreName().trim().toLowerCase(Locale.ROOT);
+        StoreSortType sortType = input.getSortType() == null ? StoreSortType.ALL : input.getSortType();
+        boolean usesLocation = sortType == StoreSortType.DISTANCE
+                || (sortType == StoreSortType.RECOMMEND && input.getLat() != 0 && input.getLnt() != 0);
+        Integer minStar = input.getMinStar() == null ? null
+                : Math.max(StoreRatingHistogram.MIN_STAR, Math.min(StoreRatingHistogram.MAX_STAR, input.getMinStar()));
+        Double minStarRatio = minStar == null ? null : Math.max(0, Math.min(1, input.minStarRatioOrDefault()));
+        return new StoreListQuery(storeName, sortType,
+                usesLocation ? cellCenter(input.getLat()) : 0,
+                usesLocation ? cellCenter(input.getLnt()) : 0,
+                minStar, minStarRatio);
+    }
+
+    /**
+     * 캐시된 검색 결과 반환 (없거나 만료되었으면 loader로 계산 후 저장)
+     * @param query 정규화된 검색 조건 (normalize)
+     * @param page 페이지 번호 (0부터)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(StoreListQuery query, int page, Supplier<T> loader) {
+        CacheKey key = new CacheKey(query.getStoreName(), query.getSortType(), page, query.getLat(), query.getLnt(),
+                query.getMinStar(), query.getMinStarRatio());
+        long now = System.nanoTime();
+        long currentGeneration = generation.get();
+        CacheEntry cached = entries.get(key);
+        if (cached != null && cached.generation == currentGeneration && cached.expiresAt - now > 0) {
+            return (T) cached.value;
+        }
+
+        T value = loader.get();
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        entries.put(key, new CacheEntry(value, now + TimeUnit.SECONDS.toNanos(ttlSeconds), currentGeneration));
+        return value;
+    }
+
+    /**
+     * 전체 캐시 비우기 (매장 등록 / 수정, 별점 변경)
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private void evict(long now) {
+        long currentGeneration = generation.get();
+        entries.values().removeIf(entry -> entry.expiresAt - now <= 0 || entry.generation != currentGeneration);
+        Iterator<CacheKey> iterator = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        log.debug("StoreSearchCache evicted => size: {}", entries.size());
+    }
+
+    private double cellCenter(double degrees) {
+        return (Math.floor(degrees / cellDegrees) + 0.5) * cellDegrees;
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class CacheKey {
+        private final String storeName;
+        private final StoreSortType sortType;
+        private final int page;
+        private final double lat;
+        private final double lnt;
+        private final Integer minStar;
+        private final Double minStarRatio;
+    }
+
+    @AllArgsConstructor
+    private static class CacheEntry {
+        private final Object value;
+        private final long expiresAt;
+        private final long generation;
+    }
+}
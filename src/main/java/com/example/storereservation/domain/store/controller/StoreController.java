@@ -4,17 +4,25 @@ import com.example.storereservation.domain.review.ReviewListInput;
 import com.example.storereservation.domain.review.dto.ReviewDetail;
 import com.example.storereservation.domain.review.dto.ReviewDto;
 import com.example.storereservation.domain.review.service.ReviewService;
+import com.example.storereservation.domain.store.cache.StoreSearchCache;
 import com.example.storereservation.domain.store.dto.StoreDetail;
 import com.example.storereservation.domain.store.dto.StoreListQuery;
 import com.example.storereservation.domain.store.service.StoreService;
+import com.example.storereservation.global.dto.CursorPage;
+import com.example.storereservation.global.type.ReviewSortType;
 import com.example.storereservation.global.type.StoreSortType;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
 @Slf4j
 @RequiredArgsConstructor
 @RestController
@@ -23,21 +31,56 @@ public class StoreController {
 
     private final StoreService storeService;
     private final ReviewService reviewService;
+    private final StoreSearchCache storeSearchCache;
 
     /**
      * 매장 검색
      * @param page 페이지 번호
-     * @param input storeName, sortType( ALL, ALPHABET, RATING, RATING_COUNT, DISTANCE)
+     * @param input storeName, sortType( ALL, ALPHABET, RATING, RATING_COUNT, DISTANCE, RECOMMEND)
      * @return 검색된 매장 리스트
      */
-    @ApiOperation(value = "매장 검색", notes = "@RequestBody에 lat, lnt 값을 포함시키고 sortType=DISTANCE로 설정할 경우 가까운 거리 순으로 조회된다.")
+    @ApiOperation(value = "매장 검색", notes = "@RequestBody에 lat, lnt 값을 포함시키고 sortType=DISTANCE로 설정할 경우 가까운 거리 순으로 조회된다."
+            + " sortType=RECOMMEND는 매장 명 일치도, 거리(lat, lnt), 별점을 합친 추천 순으로 조회된다.")
     @GetMapping("/list")
     public ResponseEntity<?> storeList(@RequestParam(value = "p", defaultValue = "1") Integer page,
                                        @RequestBody StoreListQuery input) {
+        return ResponseEntity.ok(search(input, page - 1));
+    }
+
+    /**
+     * 매장 검색 (쿼리 파라미터)
+     * - 같은 검색 조건의 결과는 StoreSearchCache에서 반환되며, 응답에 Cache-Control(max-age)이 포함된다.
+     * - 거리를 사용하는 정렬은 검색 위치를 grid cell 중심으로 맞춰서 검색한다.
+     * @param storeName 매장 명 (없으면 전체)
+     * @param sortType ALL, ALPHABET, RATING, RATING_COUNT, DISTANCE, RECOMMEND
+     * @param minStar minStar점 이상 리뷰가 minStarRatio 이상인 매장만 조회 (1 ~ 5, 없으면 전체)
+     * @param minStarRatio 0 ~ 1 (기본 0.5)
+     * @param page 페이지 번호
+     * @return 검색된 매장 리스트
+     */
+    @ApiOperation(value = "매장 검색 (쿼리 파라미터)", notes = "sortType=DISTANCE, RECOMMEND는 lat, lnt 파라미터를 사용한다."
+            + " minStar를 지정하면 minStar점 이상 리뷰가 minStarRatio(기본 0.5) 이상인 매장만 조회된다.")
+    @GetMapping("/search")
+    public ResponseEntity<?> storeSearch(@RequestParam(value = "storeName", defaultValue = "") String storeName,
+                                         @RequestParam(value = "sortType", defaultValue = "ALL") StoreSortType sortType,
+                                         @RequestParam(value = "lat", defaultValue = "0") double lat,
+                                         @RequestParam(value = "lnt", defaultValue = "0") double lnt,
+                                         @RequestParam(value = "minStar", required = false) Integer minStar,
+                                         @RequestParam(value = "minStarRatio", required = false) Double minStarRatio,
+                                         @RequestParam(value = "p", defaultValue = "1") Integer page) {
+        StoreListQuery query = storeSearchCache.normalize(
+                new StoreListQuery(storeName, sortType, lat, lnt, minStar, minStarRatio));
+        Object result = storeSearchCache.get(query, page - 1, () -> search(query, page - 1));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(storeSearchCache.getTtlSeconds(), TimeUnit.SECONDS).cachePublic())
+                .body(result);
+    }
+
+    private Object search(StoreListQuery input, Integer page) {
         if (input.getSortType().equals(StoreSortType.DISTANCE)) {
-            return ResponseEntity.ok(storeService.getStoreListByStoreNameAndDistance(input, page - 1));
+            return storeService.getStoreListByStoreNameAndDistance(input, page);
         } else {
-            return ResponseEntity.ok(storeService.getStoreListByStoreNameAndSortType(input, page - 1));
+            return storeService.getStoreListByStoreNameAndSortType(input, page);
         }
     }
 
@@ -67,4 +110,41 @@ public class StoreController {
         Page<ReviewDetail> responseList = list.map(ReviewDetail::fromDto);
         return ResponseEntity.ok(responseList);
     }
+
+    /**
+     * 매장 별 리뷰 목록 cursor 조회
+     * - offset 페이징과 달리 페이지가 깊어져도 조회 속도가 일정하다.
+     * @param storeName 매장 명
+     * @param sortType LATEST(최신 순) / RATING_DESC(별점 높은 순) / RATING_ASC(별점 낮은 순)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @return 매장 별 리뷰 cursor 페이지
+     */
+    @ApiOperation(value = "리뷰 목록 cursor 조회 - 매장 별", notes = "응답의 nextCursor를 cursor로 전달하면 다음 페이지가 조회된다.")
+    @GetMapping("/review/cursor-list")
+    public ResponseEntity<CursorPage<ReviewDetail>> reviewCursorListByStoreName(
+            @RequestParam String storeName,
+            @RequestParam(defaultValue = "LATEST") ReviewSortType sortType,
+            @RequestParam(required = false) String cursor) {
+        CursorPage<ReviewDto> list = reviewService.cursorListByStoreName(storeName, sortType, cursor);
+        return ResponseEntity.ok(list.map(ReviewDetail::fromDto));
+    }
+
+    /**
+     * 매장 별 리뷰 검색
+     * @param storeName 매장 명
+     * @param query 검색어 (예: 주차, 키즈 메뉴)
+     * @param minRating 최소 별점 (optional)
+     * @param page 페이지 번호 (default=1)
+     * @return 검색어와 관련도가 높은 순 리뷰 목록
+     */
+    @ApiOperation(value = "리뷰 검색 - 매장 별", notes = "리뷰 본문에서 검색어와 관련도(BM25)가 높은 순으로 조회된다.")
+    @GetMapping("/review/search")
+    public ResponseEntity<List<ReviewDetail>> reviewSearchByStoreName(
+            @RequestParam String storeName,
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(name = "p", defaultValue = "1") Integer page) {
+        List<ReviewDto> list = reviewService.searchByStoreName(storeName, query, minRating, page - 1);
+        return ResponseEntity.ok(list.stream().map(ReviewDetail::fromDto).collect(Collectors.toList()));
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.storereservation.domain.store.dto;
 
 import com.example.storereservation.domain.store.persist.StoreEntity;
+import com.example.storereservation.domain.store.persist.StoreRatingHistogram;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,6 +21,7 @@ public class AddStore {
         private String text;
         private double lat;
         private double lnt;
+        private Integer capacity;
 
         public static StoreEntity toEntity(Request request, String partnerId) {
             return StoreEntity.builder()
@@ -29,9 +31,12 @@ public class AddStore {
                     .text(request.getText())
                     .lat(request.getLat())
                     .lnt(request.getLnt())
+                    .capacity(request.getCapacity())
                     .createAt(LocalDateTime.now())
                     .rating(0.0)
+                    .ratingSum(0.0)
                     .ratingCount(0L)
+                    .ratingHistogram(new StoreRatingHistogram())
                     .build();
         }
     }
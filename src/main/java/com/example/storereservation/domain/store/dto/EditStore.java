@@ -19,6 +19,7 @@ public class EditStore {
         private String text;
         private double lat;
         private double lnt;
+        private Integer capacity;
     }
 
     @Data
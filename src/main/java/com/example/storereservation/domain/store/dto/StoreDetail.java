@@ -1,10 +1,13 @@
 package com.example.storereservation.domain.store.dto;
 
 import com.example.storereservation.domain.store.persist.StoreEntity;
+import com.example.storereservation.domain.store.persist.StoreRatingHistogram;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 @Builder
 @AllArgsConstructor
@@ -16,14 +19,43 @@ public class StoreDetail {
     private String rating;
     private Long count;
 
+    /**
+     * 1점부터 5점까지 리뷰 수
+     */
+    private List<Long> ratingHistogram;
+
+    /**
+     * 별점 하위 25% / 중앙값 / 상위 25% (리뷰가 없으면 null)
+     */
+    private Integer lowerQuartileRating;
+    private Integer medianRating;
+    private Integer upperQuartileRating;
+
     public static StoreDetail fromEntity(StoreEntity store) {
-        return StoreDetail.builder()
-                .storeName(store.getStoreName())
-                .storeAddr(store.getStoreAddr())
-                .text(store.getText())
-                .rating(String.format("%.2f", store.getRating()))
-                .count(store.getRatingCount())
+        return of(store.getStoreName(), store.getStoreAddr(), store.getText(), store.getRating(),
+                store.getRatingCount(), store.getRatingHistogram());
+    }
+
+    /**
+     * 매장 정보 + 별점 분포로 StoreDetail 생성 (StoreEntity, 순위표 공용)
+     * @param ratingHistogram 별점 분포 (없으면 null)
+     */
+    public static StoreDetail of(String storeName, String storeAddr, String text, double rating, Long count,
+                                 StoreRatingHistogram ratingHistogram) {
+        StoreDetail detail = StoreDetail.builder()
+                .storeName(storeName)
+                .storeAddr(storeAddr)
+                .text(text)
+                .rating(String.format("%.2f", rating))
+                .count(count)
                 .build();
+        if (ratingHistogram != null) {
+            detail.setRatingHistogram(ratingHistogram.counts());
+            detail.setLowerQuartileRating(ratingHistogram.percentile(25));
+            detail.setMedianRating(ratingHistogram.median());
+            detail.setUpperQuartileRating(ratingHistogram.percentile(75));
+        }
+        return detail;
     }
 
     public static StoreDetail fromDto(StoreDto store) {
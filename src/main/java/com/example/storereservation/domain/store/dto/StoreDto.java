@@ -21,6 +21,7 @@ public class StoreDto {
     private String text;
     private double lat;
     private double lnt;
+    private Integer capacity;
     private double distance;
     private double rating;
     private Long ratingCount;
@@ -36,6 +37,7 @@ public class StoreDto {
                 .text(store.getText())
                 .lat(store.getLat())
                 .lnt(store.getLnt())
+                .capacity(store.getCapacity())
                 .rating(store.getRating())
                 .ratingCount(store.getRatingCount())
                 .createAt(store.getCreateAt())
@@ -9,9 +9,25 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 public class StoreListQuery {
+    public static final double DEFAULT_MIN_STAR_RATIO = 0.5;
+
     private String storeName;
     private StoreSortType sortType;
 
     private double lat;
     private double lnt;
+
+    /**
+     * 별점 분포 조건 : minStar점 이상 리뷰가 전체의 minStarRatio(0 ~ 1, 기본 0.5) 이상인 매장만 조회 (minStar가 없으면 전체)
+     */
+    private Integer minStar;
+    private Double minStarRatio;
+
+    public boolean hasRatingFilter() {
+        return minStar != null;
+    }
+
+    public double minStarRatioOrDefault() {
+        return minStarRatio == null ? DEFAULT_MIN_STAR_RATIO : minStarRatio;
+    }
 }
\ No newline at end of file
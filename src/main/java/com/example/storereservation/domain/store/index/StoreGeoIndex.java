@@ -0,0 +1,240 @@
+package com.example.storereservation.domain.store.index;
+
+import com.example.storereservation.domain.store.persist.StoreEntity;
+import com.example.storereservation.domain.store.persist.StoreRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+/**
+ * 매장 위치 grid 인덱스 (거리 순 검색)
+ * - 위도/경도를 cell-degrees 크기의 격자로 나누어 cell 별로 매장 ID를 보관한다.
+ * - 검색 위치의 cell부터 바깥쪽 고리(ring)로 넓혀가며, 다음 고리의 최소 거리보다
+ *   가까운 매장이 필요한 개수만큼 모이면 멈춘다. (전체 매장 수와 관계없이 주변 cell만 확인)
+ * - 조건에 맞는 매장을 모두 찾았거나 전체 매장을 확인했으면 고리를 더 넓히지 않는다.
+ * - 서버 시작 시 전체 매장으로 만들고, 매장 등록 / 수정 시 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreGeoIndex {
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    @Value("${store.geo-index.cell-degrees:0.01}")
+    private double cellDegrees;
+
+    @Value("${store.geo-index.max-rings:200}")
+    private int maxRings;
+
+    private final StoreRepository storeRepository;
+
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, GeoEntry> entries = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        cells.clear();
+        entries.clear();
+        storeRepository.findAll().forEach(this::put);
+        ready = true;
+        log.info("StoreGeoIndex rebuild complete => stores: {}, cells: {}", entries.size(), cells.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 매장 추가 / 위치 변경
+     */
+    public void put(StoreEntity store) {
+        GeoEntry entry = new GeoEntry(store.getId(), store.getStoreName(), store.getLat(), store.getLnt(),
+                cellOf(store.getLat(), store.getLnt()));
+        GeoEntry previous = entries.put(entry.id, entry);
+        if (previous != null && previous.cell != entry.cell) {
+            Set<Long> previousCell = cells.get(previous.cell);
+            if (previousCell != null) {
+                previousCell.remove(previous.id);
+            }
+        }
+        cells.computeIfAbsent(entry.cell, key -> ConcurrentHashMap.newKeySet()).add(entry.id);
+    }
+
+    /**
+     * 인덱스에 저장된 매장 명 (없으면 null)
+     */
+    public String storeNameOf(long storeId) {
+        GeoEntry entry = entries.get(storeId);
+        return entry == null ? null : entry.storeName;
+    }
+
+    /**
+     * 가까운 순으로 (offset + limit)개를 찾아 offset 이후 limit개 반환
+     * @param lat 검색 위치 위도
+     * @param lnt 검색 위치 경도
+     * @param filter 매장 ID 조건 (매장 명 조건 등)
+     * @param matchCount 조건에 맞는 매장 수 (모르면 Integer.MAX_VALUE)
+     * @param offset 건너뛸 개수
+     * @param limit 반환할 개수
+     * @return 가까운 순 매장 ID와 거리(km)
+     */
+    public List<GeoHit> nearest(double lat, double lnt, LongPredicate filter, int matchCount, int offset, int limit) {
+        int wanted = offset + limit;
+        // 거리가 먼 순서로 꺼내는 heap에 가까운 wanted개만 유지
+        PriorityQueue<GeoHit> nearest = new PriorityQueue<>(Comparator.comparingDouble(GeoHit::getDistance).reversed());
+
+        int latIndex = index(lat);
+        int lntIndex = index(lnt);
+        int storeCount = entries.size();
+        int visited = 0;
+        int matched = 0;
+
+        for (int ring = 0; ring <= maxRings; ring++) {
+            for (long cell : ringCells(latIndex, lntIndex, ring)) {
+                Set<Long> ids = cells.get(cell);
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    visited++;
+                    if (offer(nearest, wanted, id, lat, lnt, filter)) {
+                        matched++;
+                    }
+                }
+            }
+            // 다음 고리의 매장은 최소 ring개 cell 폭 이상 떨어져 있다. (경도 방향 cell 폭이 더 좁으므로 기준으로 사용)
+            if (nearest.size() == wanted && nearest.peek().getDistance() <= ring * cellWidthKm(lat, ring)) {
+                return page(nearest, offset);
+            }
+            // 조건에 맞는 매장을 모두 찾았거나 전체 매장을 확인했으면 더 넓혀도 결과가 같다.
+            if (matched >= matchCount || visited >= storeCount) {
+                return page(nearest, offset);
+            }
+        }
+
+        // 고리를 max-rings까지 넓혀도 채워지지 않으면 (검색 결과가 적은 경우) 전체 확인
+        nearest.clear();
+        entries.keySet().forEach(id -> offer(nearest, wanted, id, lat, lnt, filter));
+        return page(nearest, offset);
+    }
+
+    /**
+     * 주어진 매장 중 가까운 순으로 offset 이후 limit개 반환
+     * - 후보 매장이 적을 때 (매장 명 검색 결과 등) 고리를 넓혀가지 않고 후보만 확인한다.
+     * @param storeIds 후보 매장 ID
+     */
+    public List<GeoHit> nearestAmong(double lat, double lnt, Collection<Long> storeIds, int offset, int limit) {
+        int wanted = offset + limit;
+        PriorityQueue<GeoHit> nearest = new PriorityQueue<>(Comparator.comparingDouble(GeoHit::getDistance).reversed());
+        storeIds.forEach(id -> offer(nearest, wanted, id, lat, lnt, candidate -> true));
+        return page(nearest, offset);
+    }
+
+    /**
+     * 검색 위치에서 ring 만큼 떨어진 범위 안의 가장 좁은 경도 방향 cell 폭 (km)
+     */
+    private double cellWidthKm(double lat, int ring) {
+        double farthestLat = Math.min(Math.abs(lat) + (ring + 1) * cellDegrees, 89.0);
+        return cellDegrees * KM_PER_DEGREE * Math.cos(Math.toRadians(farthestLat));
+    }
+
+    /**
+     * @return 조건에 맞는 매장이면 true
+     */
+    private boolean offer(PriorityQueue<GeoHit> nearest, int wanted, long id, double lat, double lnt, LongPredicate filter) {
+        GeoEntry entry = entries.get(id);
+        if (entry == null || !filter.test(id)) {
+            return false;
+        }
+        double distance = distanceKm(lat, lnt, entry.lat, entry.lnt);
+        if (nearest.size() < wanted) {
+            nearest.offer(new GeoHit(id, distance));
+        } else if (distance < nearest.peek().getDistance()) {
+            nearest.poll();
+            nearest.offer(new GeoHit(id, distance));
+        }
+        return true;
+    }
+
+    private List<GeoHit> page(PriorityQueue<GeoHit> nearest, int offset) {
+        List<GeoHit> sorted = new ArrayList<>(nearest);
+        sorted.sort(Comparator.comparingDouble(GeoHit::getDistance));
+        return offset >= sorted.size() ? new ArrayList<>() : sorted.subList(offset, sorted.size());
+    }
+
+    /**
+     * 중심 cell에서 ring 만큼 떨어진 고리의 cell 목록
+     */
+    private List<Long> ringCells(int latIndex, int lntIndex, int ring) {
+        List<Long> ringCells = new ArrayList<>();
+        if (ring == 0) {
+            ringCells.add(cellKey(latIndex, lntIndex));
+            return ringCells;
+        }
+        for (int i = -ring; i <= ring; i++) {
+            ringCells.add(cellKey(latIndex - ring, lntIndex + i));
+            ringCells.add(cellKey(latIndex + ring, lntIndex + i));
+        }
+        for (int i = -ring + 1; i <= ring - 1; i++) {
+            ringCells.add(cellKey(latIndex + i, lntIndex - ring));
+            ringCells.add(cellKey(latIndex + i, lntIndex + ring));
+        }
+        return ringCells;
+    }
+
+    private long cellOf(double lat, double lnt) {
+        return cellKey(index(lat), index(lnt));
+    }
+
+    private int index(double degrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long cellKey(int latIndex, int lntIndex) {
+        return ((long) latIndex << 32) | (lntIndex & 0xffffffffL);
+    }
+
+    /**
+     * 두 좌표 사이의 거리 (haversine, km)
+     */
+    public static double distanceKm(double lat1, double lnt1, double lat2, double lnt2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLnt = Math.toRadians(lnt2 - lnt1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLnt / 2) * Math.sin(dLnt / 2);
+        return 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class GeoHit {
+        private final long storeId;
+        private final double distance;
+    }
+
+    @AllArgsConstructor
+    private static class GeoEntry {
+        private final long id;
+        private final String storeName;
+        private final double lat;
+        private final double lnt;
+        private final long cell;
+    }
+}
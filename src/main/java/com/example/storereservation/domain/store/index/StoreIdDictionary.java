@@ -0,0 +1,84 @@
+package com.example.storereservation.domain.store.index;
+
+import com.example.storereservation.domain.store.persist.StoreEntity;
+import com.example.storereservation.domain.store.persist.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장 명 -> 매장 ID 사전
+ * - API로 들어온 매장 명을 한 번만 매장 ID로 바꾸고, 이후 조회는 매장 ID(PK)로 한다.
+ * - 서버 시작 시 전체 매장으로 만들고, 매장 등록 / 수정(매장 명 변경) 시 갱신한다.
+ * - 사전에 없는 매장 명은 DB에서 찾아서 추가한다. (다른 서버에서 등록된 매장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreIdDictionary {
+
+    private final StoreRepository storeRepository;
+
+    private final Map<String, Long> ids = new ConcurrentHashMap<>();
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ids.clear();
+        names.clear();
+        storeRepository.findAll().forEach(this::put);
+        log.info("StoreIdDictionary rebuild complete => stores: {}", ids.size());
+    }
+
+    /**
+     * 매장 추가 / 매장 명 변경
+     */
+    public void put(StoreEntity store) {
+        String previous = names.put(store.getId(), store.getStoreName());
+        if (previous != null && !previous.equals(store.getStoreName())) {
+            ids.remove(previous, store.getId());
+        }
+        ids.put(store.getStoreName(), store.getId());
+    }
+
+    /**
+     * 매장 명으로 매장 ID 찾기
+     */
+    public Optional<Long> idOf(String storeName) {
+        if (storeName == null) {
+            return Optional.empty();
+        }
+        Long id = ids.get(storeName);
+        if (id != null) {
+            return Optional.of(id);
+        }
+        Optional<StoreEntity> store = storeRepository.findByStoreName(storeName);
+        store.ifPresent(this::put);
+        return store.map(StoreEntity::getId);
+    }
+
+    /**
+     * 매장 명으로 매장 조회 (매장 ID(PK)로 조회)
+     * - 다른 서버에서 매장 명이 바뀌어 사전의 매장 ID가 다른 매장 명을 가리키면 사전에서 제거하고 매장 명으로 다시 조회한다.
+     */
+    public Optional<StoreEntity> findStore(String storeName) {
+        Optional<StoreEntity> store = idOf(storeName).flatMap(storeRepository::findById);
+        if (store.isPresent() && store.get().getStoreName().equals(storeName)) {
+            return store;
+        }
+        if (store.isPresent()) {
+            log.info("StoreIdDictionary stale entry => storeName: {}, storeId: {}", storeName, store.get().getId());
+            put(store.get());
+        }
+        ids.remove(storeName);
+        Optional<StoreEntity> reloaded = storeRepository.findByStoreName(storeName);
+        reloaded.ifPresent(this::put);
+        return reloaded;
+    }
+}
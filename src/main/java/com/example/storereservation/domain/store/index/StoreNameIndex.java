@@ -0,0 +1,140 @@
+package com.example.storereservation.domain.store.index;
+
+import com.example.storereservation.domain.store.persist.StoreEntity;
+import com.example.storereservation.domain.store.persist.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장 명 n-gram 역색인 (부분 문자열 검색)
+ * - 매장 명의 모든 1-gram, 2-gram 별로 매장 ID를 보관한다.
+ * - 검색어의 2-gram posting들을 작은 것부터 교집합한 후 실제로 검색어를 포함하는지 확인한다.
+ *   (LIKE '%검색어%' 전체 스캔 대신 검색어와 관련된 posting만 확인)
+ * - 대소문자 구분 없이 검색한다. (DB의 LIKE와 동일)
+ * - 서버 시작 시 전체 매장으로 만들고, 매장 등록 / 수정 시 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreNameIndex {
+
+    private final StoreRepository storeRepository;
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        postings.clear();
+        names.clear();
+        storeRepository.findAll().forEach(this::put);
+        ready = true;
+        log.info("StoreNameIndex rebuild complete => stores: {}, grams: {}", names.size(), postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 매장 추가 / 매장 명 변경
+     */
+    public void put(StoreEntity store) {
+        String name = normalize(store.getStoreName());
+        String previous = names.put(store.getId(), name);
+        if (name.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            for (String gram : gramsOf(previous)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(store.getId());
+                }
+            }
+        }
+        for (String gram : gramsOf(name)) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(store.getId());
+        }
+    }
+
+    /**
+     * 매장 명에 검색어가 포함된 매장 ID
+     * @param keyword 검색어 (비어 있으면 전체 매장)
+     */
+    public Set<Long> search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return new HashSet<>(names.keySet());
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : query.length() == 1 ? Collections.singleton(query) : bigramsOf(query)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null || ids.isEmpty()) {
+                return Collections.emptySet();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>();
+        for (Long id : lists.get(0)) {
+            String name = names.get(id);
+            if (name != null && name.contains(query) && containsAll(lists, id)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 인덱스에 저장된 매장 명 (소문자, 없으면 null)
+     */
+    public String nameOf(long storeId) {
+        return names.get(storeId);
+    }
+
+    private boolean containsAll(List<Set<Long>> lists, Long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Set<String> gramsOf(String name) {
+        Set<String> grams = bigramsOf(name);
+        for (int i = 0; i < name.length(); i++) {
+            grams.add(name.substring(i, i + 1));
+        }
+        return grams;
+    }
+
+    private Set<String> bigramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.storereservation.domain.store.index;
+
+import com.example.storereservation.domain.store.dto.StoreDetail;
+import com.example.storereservation.domain.store.persist.StoreEntity;
+import com.example.storereservation.domain.store.persist.StoreRatingHistogram;
+import com.example.storereservation.domain.store.persist.StoreRepository;
+import com.example.storereservation.global.type.StoreSortType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 별점 / 리뷰 수 순위표 (RATING, RATING_COUNT 정렬)
+ * - 정렬 기준 별로 skip list를 두고 매장 정보가 바뀔 때 해당 매장만 다시 넣는다. (O(log n))
+ * - 검색어가 없는 목록은 DB 조회 없이 순위표에서 바로 만든다.
+ * - 검색어가 있으면 매장 명 검색 결과(StoreNameIndex)와 순위표의 교집합으로 만든다.
+ * - 별점 분포 조건(minStar) 검색을 위해 매장 별 별점 분포도 함께 보관한다.
+ * - 추천 순(RECOMMEND) 점수 계산을 위해 전체 매장의 평균 별점도 함께 관리한다. (StoreRankingEngine)
+ * - 서버 시작 시 전체 매장으로 만들고, 매장 등록 / 수정, 리뷰 작성 / 수정 시 갱신한다.
+ * - 커밋 후 갱신은 순서가 바뀌어 도착할 수 있으므로 별점 버전(STORE.rating_version)이 더 낮은 매장 정보는 무시한다.
+ * - 다른 서버에서 반영된 별점 변경도 보이도록 rebuild-interval-ms 마다 DB로 다시 만든다.
+ *   (다시 만드는 동안 들어온 갱신은 버전을 비교해서 새 순위표에 옮긴다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRankingIndex {
+
+    private static final Comparator<RankEntry> BY_RATING = Comparator
+            .comparingDouble((RankEntry entry) -> entry.rating).reversed()
+            .thenComparingLong(entry -> entry.id);
+
+    private static final Comparator<RankEntry> BY_RATING_COUNT = Comparator
+            .comparingLong((RankEntry entry) -> entry.ratingCount).reversed()
+            .thenComparingLong(entry -> entry.id);
+
+    private final StoreRepository storeRepository;
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Board board = new Board();
+    private volatile boolean ready;
+
+    /**
+     * 전체 매장으로 순위표를 새로 만든 후 교체
+     * - 새로 만드는 동안 기존 순위표에 들어온 갱신 중 별점 버전이 더 높은 매장 정보(또는 새 매장)는 새 순위표에 옮긴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${store.ranking.rebuild-interval-ms:600000}",
+            initialDelayString = "${store.ranking.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        Board rebuilt = new Board();
+        storeRepository.findAll().forEach(store -> rebuilt.put(RankEntry.of(store)));
+
+        swapLock.writeLock().lock();
+        try {
+            for (RankEntry current : board.entries.values()) {
+                RankEntry loaded = rebuilt.entries.get(current.id);
+                if (loaded == null || current.ratingVersion > loaded.ratingVersion) {
+                    rebuilt.put(current);
+                }
+            }
+            board = rebuilt;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        ready = true;
+        log.info("StoreRankingIndex rebuild complete => stores: {}", rebuilt.entries.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * RATING, RATING_COUNT 정렬만 순위표로 조회할 수 있다.
+     */
+    public static boolean supports(StoreSortType sortType) {
+        return sortType == StoreSortType.RATING || sortType == StoreSortType.RATING_COUNT;
+    }
+
+    /**
+     * 매장 추가 / 매장 정보, 별점 변경
+     * - 이미 있는 매장 정보보다 별점 버전이 낮으면 무시한다. (늦게 도착한 이전 갱신)
+     */
+    public void put(StoreEntity store) {
+        RankEntry entry = RankEntry.of(store);
+        swapLock.readLock().lock();
+        try {
+            board.put(entry);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 매장 정보 (없으면 null)
+     */
+    public RankEntry get(long storeId) {
+        return board.entries.get(storeId);
+    }
+
+    /**
+     * 전체 매장 정보
+     */
+    public Collection<RankEntry> entries() {
+        return board.entries.values();
+    }
+
+    /**
+     * 별점 분포 조건을 만족하는 매장 ID (minStar점 이상 리뷰가 전체 리뷰의 ratio 이상)
+     */
+    public Set<Long> findByRatingShare(int minStar, double ratio) {
+        Set<Long> storeIds = new HashSet<>();
+        for (RankEntry entry : board.entries.values()) {
+            if (entry.hasRatingShareAtLeast(minStar, ratio)) {
+                storeIds.add(entry.id);
+            }
+        }
+        return storeIds;
+    }
+
+    /**
+     * 전체 리뷰의 평균 별점 (리뷰가 없으면 0)
+     */
+    public double meanRating() {
+        Board current = board;
+        long count = current.ratingCountTotal.sum();
+        return count == 0 ? 0 : current.ratingTotal.sum() / count;
+    }
+
+    /**
+     * 전체 매장 순위 페이지
+     */
+    public Page<StoreDetail> page(StoreSortType sortType, Pageable pageable) {
+        Board current = board;
+        NavigableSet<RankEntry> ranking = current.rankingOf(sortType);
+        List<StoreDetail> content = new ArrayList<>(pageable.getPageSize());
+        Iterator<RankEntry> iterator = ranking.iterator();
+        for (long skip = pageable.getOffset(); skip > 0 && iterator.hasNext(); skip--) {
+            iterator.next();
+        }
+        while (content.size() < pageable.getPageSize() && iterator.hasNext()) {
+            content.add(iterator.next().toDetail());
+        }
+        return new PageImpl<>(content, pageable, current.entries.size());
+    }
+
+    /**
+     * 후보 매장 중 순위 페이지
+     * - 후보가 순위표보다 충분히 적으면 후보만 정렬하고, 아니면 순위표를 순서대로 보면서 후보만 고른다.
+     * @param storeIds 후보 매장 ID (매장 명 검색 결과)
+     */
+    public Page<StoreDetail> page(StoreSortType sortType, Collection<Long> storeIds, Pageable pageable) {
+        Board current = board;
+        NavigableSet<RankEntry> ranking = current.rankingOf(sortType);
+        List<StoreDetail> content = new ArrayList<>(pageable.getPageSize());
+        long skip = pageable.getOffset();
+
+        List<RankEntry> candidates = new ArrayList<>(storeIds.size());
+        for (Long id : storeIds) {
+            RankEntry entry = current.entries.get(id);
+            if (entry != null) {
+                candidates.add(entry);
+            }
+        }
+
+        Iterator<RankEntry> iterator;
+        if ((long) candidates.size() * 8 < current.entries.size()) {
+            candidates.sort(ranking.comparator());
+            iterator = candidates.iterator();
+        } else {
+            iterator = ranking.iterator();
+        }
+
+        while (content.size() < pageable.getPageSize() && iterator.hasNext()) {
+            RankEntry entry = iterator.next();
+            if (!storeIds.contains(entry.id)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+            } else {
+                content.add(entry.toDetail());
+            }
+        }
+        return new PageImpl<>(content, pageable, candidates.size());
+    }
+
+    /**
+     * 순위표 (매장 정보, 정렬 기준 별 skip list, 평균 별점 합계)
+     */
+    private static class Board {
+        private final Map<Long, RankEntry> entries = new ConcurrentHashMap<>();
+        private final NavigableSet<RankEntry> byRating = new ConcurrentSkipListSet<>(BY_RATING);
+        private final NavigableSet<RankEntry> byRatingCount = new ConcurrentSkipListSet<>(BY_RATING_COUNT);
+        private final DoubleAdder ratingTotal = new DoubleAdder();
+        private final LongAdder ratingCountTotal = new LongAdder();
+
+        /**
+         * 같은 매장에 대한 갱신이 동시에 일어나지 않도록 매장 단위로 잠근다.
+         */
+        private void put(RankEntry entry) {
+            entries.compute(entry.id, (id, previous) -> {
+                if (previous != null && previous.ratingVersion > entry.ratingVersion) {
+                    return previous;
+                }
+                if (previous != null) {
+                    byRating.remove(previous);
+                    byRatingCount.remove(previous);
+                    ratingTotal.add(-previous.rating * previous.ratingCount);
+                    ratingCountTotal.add(-previous.ratingCount);
+                }
+                byRating.add(entry);
+                byRatingCount.add(entry);
+                ratingTotal.add(entry.rating * entry.ratingCount);
+                ratingCountTotal.add(entry.ratingCount);
+                return entry;
+            });
+        }
+
+        private NavigableSet<RankEntry> rankingOf(StoreSortType sortType) {
+            if (sortType == StoreSortType.RATING) {
+                return byRating;
+            } else if (sortType == StoreSortType.RATING_COUNT) {
+                return byRatingCount;
+            }
+            throw new IllegalArgumentException("unsupported sort type: " + sortType);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RankEntry {
+        private final long id;
+        private final String storeName;
+        private final String storeAddr;
+        private final String text;
+        private final double lat;
+        private final double lnt;
+        private final double rating;
+        private final long ratingCount;
+        private final StoreRatingHistogram ratingHistogram;
+        private final long ratingVersion;
+
+        private static RankEntry of(StoreEntity store) {
+            StoreRatingHistogram histogram = store.getRatingHistogram();
+            return new RankEntry(store.getId(), store.getStoreName(), store.getStoreAddr(), store.getText(),
+                    store.getLat(), store.getLnt(), store.getRating(),
+                    store.getRatingCount() == null ? 0L : store.getRatingCount(),
+                    histogram == null ? null : new StoreRatingHistogram(histogram.getStar1(), histogram.getStar2(),
+                            histogram.getStar3(), histogram.getStar4(), histogram.getStar5()),
+                    store.getRatingVersion());
+        }
+
+        /**
+         * minStar점 이상 리뷰가 전체 리뷰의 ratio 이상이면 true (별점 분포가 없으면 false)
+         */
+        public boolean hasRatingShareAtLeast(int minStar, double ratio) {
+            return ratingHistogram != null && ratingHistogram.hasShareAtLeast(minStar, ratio);
+        }
+
+        public StoreDetail toDetail() {
+            return StoreDetail.of(storeName, storeAddr, text, rating, ratingCount, ratingHistogram);
+        }
+    }
+}
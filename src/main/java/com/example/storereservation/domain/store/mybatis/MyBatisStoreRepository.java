@@ -4,28 +4,84 @@ import com.example.storereservation.domain.store.dto.StoreDto;
 import com.example.storereservation.domain.store.dto.StoreListQuery;
 import com.example.storereservation.global.type.PageConst;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class MyBatisStoreRepository {
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final String WHOLE_WORLD_BOX = "POLYGON((-180 -90, 180 -90, 180 90, -180 90, -180 -90))";
+
+    @Value("${store.distance.initial-radius-km:1}")
+    private double initialRadiusKm;
+
+    @Value("${store.distance.max-radius-km:200}")
+    private double maxRadiusKm;
 
     private final StoreMapper storeMapper;
 
     /**
      * 매장 이름으로 거리 순 정렬된 매장 리스트 조회
+     * - 반경 radius의 bounding box 안의 매장만 SPATIAL INDEX로 조회하고,
+     *   페이지가 채워지지 않거나 마지막 매장이 반경 밖이면 반경을 두 배로 넓혀 다시 조회한다.
+     * - box 안의 결과는 반경(내접원) 안에 있는 매장까지만 전체 거리 순서와 같다.
+     * - max-radius-km까지 넓혀도 채워지지 않으면 전체 매장 거리 계산 쿼리로 조회한다.
+     *   (별점 분포 조건이 있으면 전체 범위의 box로 조회)
      * @param input 매장 검색 조건
      * @param page 페이지 번호
      * @return 거리 순으로 정렬된 매장 리스트
      */
     public List<StoreDto> findByStoreNameOrderByDistance(StoreListQuery input, Integer page) {
         Integer size = PageConst.STORE_LIST_PAGE_SIZE;
+        String storeName = input.getStoreName() == null ? "" : input.getStoreName();
+        int wanted = size * page + size;
+        Integer minStar = input.getMinStar();
+        double ratio = input.minStarRatioOrDefault();
+
+        for (double radius = initialRadiusKm; radius <= maxRadiusKm; radius *= 2) {
+            List<StoreDto> stores = storeMapper.findStoreListInBoxOrderByDistance(
+                    storeName, input.getLat(), input.getLnt(), boundingBox(input.getLat(), input.getLnt(), radius),
+                    minStar, ratio, wanted);
+            if (stores.size() == wanted && stores.get(wanted - 1).getDistance() <= radius) {
+                return new ArrayList<>(stores.subList(size * page, wanted));
+            }
+        }
+
+        if (minStar != null) {
+            List<StoreDto> stores = storeMapper.findStoreListInBoxOrderByDistance(
+                    storeName, input.getLat(), input.getLnt(), WHOLE_WORLD_BOX, minStar, ratio, wanted);
+            return stores.size() <= size * page
+                    ? new ArrayList<>()
+                    : new ArrayList<>(stores.subList(size * page, stores.size()));
+        }
+
         return storeMapper.findStoreListOrderByDistance(
-                input.getStoreName(),
+                storeName,
                 input.getLat(),
                 input.getLnt(),
                 size * page, size);
     }
+
+    /**
+     * 중심에서 반경 radius(km)를 포함하는 bounding box (WKT POLYGON, x = 경도, y = 위도)
+     */
+    private String boundingBox(double lat, double lnt, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double dLnt = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+        String minX = plain(lnt - dLnt);
+        String maxX = plain(lnt + dLnt);
+        String minY = plain(lat - dLat);
+        String maxY = plain(lat + dLat);
+        return "POLYGON((" + minX + " " + minY + ", " + maxX + " " + minY + ", " + maxX + " " + maxY + ", "
+                + minX + " " + maxY + ", " + minX + " " + minY + "))";
+    }
+
+    private String plain(double value) {
+        return BigDecimal.valueOf(value).toPlainString();
+    }
 }
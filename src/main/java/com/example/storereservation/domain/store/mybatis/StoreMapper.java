@@ -3,12 +3,25 @@ package com.example.storereservation.domain.store.mybatis;
 import com.example.storereservation.domain.store.dto.StoreDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
 
 import java.util.List;
 
 @Mapper
 public interface StoreMapper {
 
+    /**
+     * 별점 분포 조건 : minStar점 이상 리뷰가 전체 리뷰의 ratio 이상 (minStar가 null이면 전체)
+     */
+    String RATING_SHARE_CONDITION = "(#{minStar,jdbcType=INTEGER} IS NULL OR ("
+            + "(CASE WHEN #{minStar,jdbcType=INTEGER} <= 1 THEN rating_star1 ELSE 0 END"
+            + " + CASE WHEN #{minStar,jdbcType=INTEGER} <= 2 THEN rating_star2 ELSE 0 END"
+            + " + CASE WHEN #{minStar,jdbcType=INTEGER} <= 3 THEN rating_star3 ELSE 0 END"
+            + " + CASE WHEN #{minStar,jdbcType=INTEGER} <= 4 THEN rating_star4 ELSE 0 END"
+            + " + CASE WHEN #{minStar,jdbcType=INTEGER} <= 5 THEN rating_star5 ELSE 0 END)"
+            + " >= #{ratio} * (rating_star1 + rating_star2 + rating_star3 + rating_star4 + rating_star5)"
+            + " AND rating_star1 + rating_star2 + rating_star3 + rating_star4 + rating_star5 > 0))";
+
     List<StoreDto> findStoreListOrderByDistance(
             @Param("storeName") String storeName,
             @Param("lat") double lat,
@@ -16,4 +29,29 @@ public interface StoreMapper {
             @Param("start") Integer start,
             @Param("end") Integer end
     );
-}
\ No newline at end of file
+
+    /**
+     * bounding box(MBRContains, SPATIAL INDEX) 안의 매장만 거리 순 조회
+     * - distance : km
+     * - minStar가 있으면 별점 분포 조건을 만족하는 매장만 조회한다.
+     */
+    @Select("SELECT id, partner_id AS partnerId, store_name AS storeName, store_addr AS storeAddr, text,"
+            + " lat, lnt, capacity, rating, rating_count AS ratingCount,"
+            + " create_at AS createAt, update_at AS updateAt,"
+            + " ST_Distance_Sphere(location, POINT(#{lnt}, #{lat})) / 1000 AS distance"
+            + " FROM store"
+            + " WHERE MBRContains(ST_GeomFromText(#{box}), location)"
+            + " AND store_name LIKE CONCAT('%', #{storeName}, '%')"
+            + " AND " + RATING_SHARE_CONDITION
+            + " ORDER BY distance"
+            + " LIMIT #{limit}")
+    List<StoreDto> findStoreListInBoxOrderByDistance(
+            @Param("storeName") String storeName,
+            @Param("lat") double lat,
+            @Param("lnt") double lnt,
+            @Param("box") String box,
+            @Param("minStar") Integer minStar,
+            @Param("ratio") double ratio,
+            @Param("limit") Integer limit
+    );
+}
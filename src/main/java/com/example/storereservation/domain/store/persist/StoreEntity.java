@@ -2,12 +2,19 @@ package com.example.storereservation.domain.store.persist;
 
 import com.example.storereservation.domain.store.dto.EditStore;
 import lombok.*;
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.util.StringUtils;
 
+import javax.persistence.Column;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -16,6 +23,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 @Entity(name = "STORE")
+@DynamicUpdate
 public class StoreEntity {
 
     @Id
@@ -28,8 +36,30 @@ public class StoreEntity {
     private String text;
     private double lat;
     private double lnt;
+
+    /**
+     * 위치 (MariaDB POINT(lnt, lat), SPATIAL INDEX) - lat, lnt로 저장 시 자동 설정
+     */
+    @Column(columnDefinition = "POINT NOT NULL")
+    @ColumnTransformer(read = "ST_AsText(location)", write = "ST_GeomFromText(?)")
+    private String location;
+
+    private Integer capacity;
+
+    /**
+     * 별점 (ratingSum / ratingCount) - DB 정렬용으로 함께 저장되며, 조회 시에는 항상 합계로 계산한다.
+     */
     private double rating;
+    private double ratingSum;
     private Long ratingCount;
+
+    @Embedded
+    private StoreRatingHistogram ratingHistogram;
+
+    /**
+     * 별점 변경 버전 - applyRatingDelta마다 1 증가 (순위표 갱신 순서 비교용)
+     */
+    private long ratingVersion;
     private LocalDateTime createAt;
     private LocalDateTime updateAt;
 
@@ -43,10 +73,24 @@ public class StoreEntity {
         if (StringUtils.hasText(request.getText())) {
             this.text = request.getText();
         }
+        if (request.getCapacity() != null && request.getCapacity() > 0) {
+            this.capacity = request.getCapacity();
+        }
         if (request.getLat() != 0 && request.getLnt() != 0) {
             this.lat = request.getLat();
             this.lnt = request.getLnt();
         }
         this.updateAt = LocalDateTime.now();
     }
+
+    public double getRating() {
+        return ratingCount == null || ratingCount == 0 ? 0 : ratingSum / ratingCount;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void updateLocation() {
+        this.location = "POINT(" + BigDecimal.valueOf(lnt).toPlainString()
+                + " " + BigDecimal.valueOf(lat).toPlainString() + ")";
+    }
 }
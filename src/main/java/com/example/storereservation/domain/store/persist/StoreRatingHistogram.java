@@ -0,0 +1,103 @@
+package com.example.storereservation.domain.store.persist;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 매장 별점 분포 (1 ~ 5점 리뷰 수)
+ * - 리뷰의 별점은 반올림한 점수(1 ~ 5)로 집계된다.
+ * - 리뷰 작성 / 수정 시 StoreRatingUpdater가 StoreRepository.applyRatingDelta로 증감하며,
+ *   중앙값 / 백분위 / 특정 점수 이상 리뷰 수를 리뷰 테이블 조회 없이 계산한다.
+ */
+@Getter
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreRatingHistogram {
+    public static final int MIN_STAR = 1;
+    public static final int MAX_STAR = 5;
+
+    @Column(name = "rating_star1")
+    private long star1;
+    @Column(name = "rating_star2")
+    private long star2;
+    @Column(name = "rating_star3")
+    private long star3;
+    @Column(name = "rating_star4")
+    private long star4;
+    @Column(name = "rating_star5")
+    private long star5;
+
+    /**
+     * 리뷰 별점이 집계되는 점수 (1 ~ 5)
+     */
+    public static int starOf(double rating) {
+        return (int) Math.max(MIN_STAR, Math.min(MAX_STAR, Math.round(rating)));
+    }
+
+    /**
+     * 1점부터 5점까지 리뷰 수
+     */
+    public List<Long> counts() {
+        return Arrays.asList(star1, star2, star3, star4, star5);
+    }
+
+    public long total() {
+        return star1 + star2 + star3 + star4 + star5;
+    }
+
+    /**
+     * star점 이상 리뷰 수
+     */
+    public long countAtLeast(int star) {
+        List<Long> counts = counts();
+        long count = 0;
+        for (int i = Math.max(star, MIN_STAR); i <= MAX_STAR; i++) {
+            count += counts.get(i - MIN_STAR);
+        }
+        return count;
+    }
+
+    /**
+     * star점 이상 리뷰가 전체 리뷰의 ratio 이상이면 true (리뷰가 없으면 false)
+     * @param ratio 0 ~ 1
+     */
+    public boolean hasShareAtLeast(int star, double ratio) {
+        long total = total();
+        return total > 0 && countAtLeast(star) >= ratio * total;
+    }
+
+    /**
+     * 별점 백분위 (낮은 점수부터 누적, 리뷰가 없으면 null)
+     * @param percentile 0 ~ 100
+     */
+    public Integer percentile(double percentile) {
+        long total = total();
+        if (total == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long cumulative = 0;
+        List<Long> counts = counts();
+        for (int star = MIN_STAR; star <= MAX_STAR; star++) {
+            cumulative += counts.get(star - MIN_STAR);
+            if (cumulative >= rank) {
+                return star;
+            }
+        }
+        return MAX_STAR;
+    }
+
+    /**
+     * 별점 중앙값 (리뷰가 없으면 null)
+     */
+    public Integer median() {
+        return percentile(50);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.storereservation.domain.store.persist;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 매장 별점 변경 대기열
+ * - 리뷰 작성 / 수정과 같은 트랜잭션에서 저장되고, StoreRatingUpdater가 매장 별로 합쳐서 STORE에 반영한 후 삭제한다.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity(name = "STORE_RATING_UPDATE")
+public class StoreRatingUpdateEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long storeId;
+
+    /**
+     * 별점 합계 증감
+     */
+    private double ratingDelta;
+
+    /**
+     * 리뷰 수 증감 (작성 1, 수정 0)
+     */
+    private int countDelta;
+
+    /**
+     * 별점 분포에서 뺄 점수 (없으면 0)
+     */
+    private int removedStar;
+
+    /**
+     * 별점 분포에 더할 점수 (없으면 0)
+     */
+    private int addedStar;
+
+    private LocalDateTime createdAt;
+}
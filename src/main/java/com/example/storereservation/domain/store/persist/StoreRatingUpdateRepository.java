@@ -0,0 +1,29 @@
+package com.example.storereservation.domain.store.persist;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StoreRatingUpdateRepository extends JpaRepository<StoreRatingUpdateEntity, Long> {
+
+    /**
+     * 처리할 별점 변경 조회 (SELECT ... FOR UPDATE)
+     * - 여러 서버가 동시에 처리해도 같은 변경이 두 번 반영되지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from STORE_RATING_UPDATE u order by u.id")
+    List<StoreRatingUpdateEntity> findBatchForUpdate(Pageable pageable);
+
+    @Modifying
+    @Query("delete from STORE_RATING_UPDATE u where u.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -3,8 +3,12 @@ package com.example.storereservation.domain.store.persist;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +18,46 @@ public interface StoreRepository extends JpaRepository<StoreEntity, Long> {
     Optional<StoreEntity> findByStoreName(String storeName);
     Optional<StoreEntity> findByPartnerId(String partnerId);
     Page<StoreEntity> findByStoreNameContaining(String storeName, Pageable pageable);
+    Page<StoreEntity> findByIdIn(Collection<Long> ids, Pageable pageable);
+
+    /**
+     * 별점 분포 조건 : :minStar점 이상 리뷰가 전체 리뷰의 :ratio 이상 (StoreRatingHistogram.hasShareAtLeast와 같은 조건)
+     */
+    String RATING_SHARE_CONDITION = "(case when :minStar <= 1 then s.ratingHistogram.star1 else 0 end"
+            + " + case when :minStar <= 2 then s.ratingHistogram.star2 else 0 end"
+            + " + case when :minStar <= 3 then s.ratingHistogram.star3 else 0 end"
+            + " + case when :minStar <= 4 then s.ratingHistogram.star4 else 0 end"
+            + " + case when :minStar <= 5 then s.ratingHistogram.star5 else 0 end)"
+            + " >= :ratio * (s.ratingHistogram.star1 + s.ratingHistogram.star2 + s.ratingHistogram.star3"
+            + " + s.ratingHistogram.star4 + s.ratingHistogram.star5)"
+            + " and s.ratingHistogram.star1 + s.ratingHistogram.star2 + s.ratingHistogram.star3"
+            + " + s.ratingHistogram.star4 + s.ratingHistogram.star5 > 0";
+
+    @Query("select s from STORE s where s.storeName like concat('%', :storeName, '%') and " + RATING_SHARE_CONDITION)
+    Page<StoreEntity> findByStoreNameContainingAndRatingShare(@Param("storeName") String storeName,
+                                                              @Param("minStar") int minStar,
+                                                              @Param("ratio") double ratio, Pageable pageable);
+
+    @Query("select s from STORE s where s.id in :ids and " + RATING_SHARE_CONDITION)
+    Page<StoreEntity> findByIdInAndRatingShare(@Param("ids") Collection<Long> ids, @Param("minStar") int minStar,
+                                               @Param("ratio") double ratio, Pageable pageable);
+
+    /**
+     * 별점 합계 / 리뷰 수 / 별점 분포 증감 (UPDATE 한 번, 읽기 - 계산 - 저장 없음)
+     * - rating은 변경 전 값으로 계산되도록 가장 먼저 대입한다. (MariaDB는 SET을 왼쪽부터 적용)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE store SET"
+            + " rating = COALESCE((rating_sum + :ratingDelta) / NULLIF(rating_count + :countDelta, 0), 0),"
+            + " rating_sum = rating_sum + :ratingDelta,"
+            + " rating_count = rating_count + :countDelta,"
+            + " rating_star1 = rating_star1 + :star1, rating_star2 = rating_star2 + :star2,"
+            + " rating_star3 = rating_star3 + :star3, rating_star4 = rating_star4 + :star4,"
+            + " rating_star5 = rating_star5 + :star5,"
+            + " rating_version = rating_version + 1"
+            + " WHERE id = :id", nativeQuery = true)
+    int applyRatingDelta(@Param("id") Long id, @Param("ratingDelta") double ratingDelta,
+                         @Param("countDelta") long countDelta,
+                         @Param("star1") long star1, @Param("star2") long star2, @Param("star3") long star3,
+                         @Param("star4") long star4, @Param("star5") long star5);
 }
@@ -0,0 +1,154 @@
+package com.example.storereservation.domain.store.ranking;
+
+import com.example.storereservation.domain.store.dto.StoreDetail;
+import com.example.storereservation.domain.store.dto.StoreListQuery;
+import com.example.storereservation.domain.store.index.StoreGeoIndex;
+import com.example.storereservation.domain.store.index.StoreNameIndex;
+import com.example.storereservation.domain.store.index.StoreRankingIndex;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 순(RECOMMEND) 매장 검색
+ * - 매장 명 일치도, 검색 위치와의 거리, 베이지안 평균 별점을 가중치로 합친 점수 순으로 정렬한다.
+ *   (검색 위치(lat, lnt)가 없으면 거리 점수를 제외하고 나머지 가중치로 계산)
+ * - 후보 매장(매장 명 검색 결과, 별점 분포 조건이 있으면 만족하는 매장만)을 한 번씩 점수 계산하며 크기 (offset + limit)의 heap에 상위 매장만 유지한다.
+ *   (전체 정렬 없음)
+ * - 베이지안 평균 별점 : (prior-count * 전체 평균 별점 + 별점 합) / (prior-count + 리뷰 수)
+ *   리뷰가 적은 매장의 별점은 전체 평균에 가깝게 보정된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreRankingEngine {
+    private static final double MAX_RATING = 5.0;
+
+    @Value("${store.ranking.weight.text:0.3}")
+    private double textWeight;
+
+    @Value("${store.ranking.weight.distance:0.4}")
+    private double distanceWeight;
+
+    @Value("${store.ranking.weight.rating:0.3}")
+    private double ratingWeight;
+
+    @Value("${store.ranking.prior-count:10}")
+    private double priorCount;
+
+    @Value("${store.ranking.distance-scale-km:2.0}")
+    private double distanceScaleKm;
+
+    private final StoreNameIndex storeNameIndex;
+    private final StoreRankingIndex storeRankingIndex;
+
+    public boolean isReady() {
+        return storeNameIndex.isReady() && storeRankingIndex.isReady();
+    }
+
+    /**
+     * 추천 순 매장 페이지
+     * @param input storeName, lat, lnt, minStar, minStarRatio
+     * @param pageable 페이지 (정렬 조건은 사용하지 않음)
+     */
+    public Page<StoreDetail> rank(StoreListQuery input, Pageable pageable) {
+        String keyword = input.getStoreName() == null ? "" : input.getStoreName().toLowerCase(Locale.ROOT);
+        List<StoreRankingIndex.RankEntry> candidates = keyword.isEmpty()
+                ? new ArrayList<>(storeRankingIndex.entries())
+                : storeNameIndex.search(keyword).stream()
+                        .map(storeRankingIndex::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+        if (input.hasRatingFilter()) {
+            candidates.removeIf(entry -> !entry.hasRatingShareAtLeast(input.getMinStar(), input.minStarRatioOrDefault()));
+        }
+
+        boolean hasLocation = input.getLat() != 0 && input.getLnt() != 0;
+        double meanRating = storeRankingIndex.meanRating();
+        int wanted = (int) pageable.getOffset() + pageable.getPageSize();
+
+        // 점수가 낮은 순서로 꺼내는 heap에 상위 wanted개만 유지 (같은 점수는 ID가 작은 매장 우선)
+        Comparator<ScoredStore> worstFirst = Comparator.comparingDouble((ScoredStore scored) -> scored.score)
+                .thenComparing(scored -> scored.entry.getId(), Comparator.reverseOrder());
+        PriorityQueue<ScoredStore> top = new PriorityQueue<>(worstFirst);
+        for (StoreRankingIndex.RankEntry entry : candidates) {
+            double distance = hasLocation
+                    ? StoreGeoIndex.distanceKm(input.getLat(), input.getLnt(), entry.getLat(), entry.getLnt())
+                    : 0;
+            double score = score(keyword, entry, hasLocation, distance, meanRating);
+            ScoredStore scored = new ScoredStore(entry, score, distance);
+            if (top.size() < wanted) {
+                top.offer(scored);
+            } else if (worstFirst.compare(scored, top.peek()) > 0) {
+                top.poll();
+                top.offer(scored);
+            }
+        }
+
+        List<ScoredStore> sorted = new ArrayList<>(top);
+        sorted.sort(worstFirst.reversed());
+        List<StoreDetail> content = new ArrayList<>(pageable.getPageSize());
+        for (int i = (int) pageable.getOffset(); i < sorted.size(); i++) {
+            ScoredStore scored = sorted.get(i);
+            StoreDetail detail = scored.entry.toDetail();
+            if (hasLocation) {
+                detail.setDistance(String.format("%.3fkm", scored.distance));
+            }
+            content.add(detail);
+        }
+        return new PageImpl<>(content, pageable, candidates.size());
+    }
+
+    private double score(String keyword, StoreRankingIndex.RankEntry entry, boolean hasLocation,
+                         double distance, double meanRating) {
+        double score = textWeight * textScore(keyword, entry.getStoreName())
+                + ratingWeight * bayesianRating(entry, meanRating) / MAX_RATING;
+        double weights = textWeight + ratingWeight;
+        if (hasLocation) {
+            score += distanceWeight * distanceScaleKm / (distanceScaleKm + distance);
+            weights += distanceWeight;
+        }
+        return weights == 0 ? 0 : score / weights;
+    }
+
+    /**
+     * 매장 명 일치도 (0 ~ 1)
+     * - 일치 위치 : 매장 명과 같으면 1, 매장 명의 시작이면 0.8, 중간이면 0.5
+     * - 검색어가 매장 명에서 차지하는 비율을 함께 반영한다.
+     */
+    private double textScore(String keyword, String storeName) {
+        if (keyword.isEmpty()) {
+            return 1.0;
+        }
+        String name = storeName.toLowerCase(Locale.ROOT);
+        double position = name.equals(keyword) ? 1.0 : name.startsWith(keyword) ? 0.8 : 0.5;
+        double coverage = (double) keyword.length() / Math.max(name.length(), 1);
+        return 0.6 * position + 0.4 * coverage;
+    }
+
+    private double bayesianRating(StoreRankingIndex.RankEntry entry, double meanRating) {
+        if (priorCount + entry.getRatingCount() == 0) {
+            return meanRating;
+        }
+        return (priorCount * meanRating + entry.getRating() * entry.getRatingCount())
+                / (priorCount + entry.getRatingCount());
+    }
+
+    @AllArgsConstructor
+    private static class ScoredStore {
+        private final StoreRankingIndex.RankEntry entry;
+        private final double score;
+        private final double distance;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.storereservation.domain.store.scheduler;
+
+import com.example.storereservation.domain.store.index.StoreRankingIndex;
+import com.example.storereservation.domain.store.persist.StoreEntity;
+import com.example.storereservation.domain.store.persist.StoreRatingUpdateEntity;
+import com.example.storereservation.domain.store.persist.StoreRatingUpdateRepository;
+import com.example.storereservation.domain.store.persist.StoreRepository;
+import com.example.storereservation.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 매장 별점 변경 반영
+ * - STORE_RATING_UPDATE에 쌓인 변경을 chunk 단위로 읽어 매장 별로 합친 후, 매장마다 UPDATE 한 번으로 반영하고 삭제한다.
+ *   (조회 - 반영 - 삭제를 한 트랜잭션으로, 조회는 SELECT ... FOR UPDATE라 여러 서버에서 실행되어도 중복 반영 없음)
+ * - 매장 row는 ID 순서로 갱신한다. (트랜잭션 간 deadlock 방지)
+ * - 반영된 매장은 커밋 후 순위표에 다시 넣는다.
+ *   검색 캐시는 비우지 않는다. (별점 변경은 검색 캐시의 ttl-seconds 안에 반영된다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreRatingUpdater {
+
+    @Value("${store.rating.update.chunk-size:500}")
+    private int chunkSize;
+
+    private final StoreRatingUpdateRepository storeRatingUpdateRepository;
+    private final StoreRepository storeRepository;
+    private final StoreRankingIndex storeRankingIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${store.rating.update.interval-ms:1000}")
+    public void update() {
+        long applied = 0;
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> updateChunk());
+            applied += processed;
+            if (processed < chunkSize) {
+                break;
+            }
+        }
+        if (applied > 0) {
+            log.debug("Store rating update => applied: {}", applied);
+        }
+    }
+
+    private int updateChunk() {
+        List<StoreRatingUpdateEntity> updates = storeRatingUpdateRepository.findBatchForUpdate(
+                PageRequest.of(0, chunkSize));
+        if (updates.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, RatingDelta> deltas = new TreeMap<>();
+        updates.forEach(update -> deltas.computeIfAbsent(update.getStoreId(), key -> new RatingDelta()).add(update));
+
+        deltas.forEach((storeId, delta) -> {
+            if (storeRepository.applyRatingDelta(storeId, delta.ratingSum, delta.ratingCount,
+                    delta.stars[1], delta.stars[2], delta.stars[3], delta.stars[4], delta.stars[5]) == 0) {
+                log.warn("Store rating update skipped, store not found => storeId: {}", storeId);
+            }
+        });
+        storeRatingUpdateRepository.deleteByIds(updates.stream()
+                .map(StoreRatingUpdateEntity::getId)
+                .collect(Collectors.toList()));
+
+        List<StoreEntity> stores = storeRepository.findAllById(deltas.keySet());
+        TransactionUtils.afterCommit(() -> stores.forEach(storeRankingIndex::put));
+        return updates.size();
+    }
+
+    /**
+     * 매장 하나의 합친 변경 (별점 합계, 리뷰 수, 점수별 리뷰 수 - 인덱스 1 ~ 5)
+     */
+    private static class RatingDelta {
+        private double ratingSum;
+        private long ratingCount;
+        private final long[] stars = new long[6];
+
+        private void add(StoreRatingUpdateEntity update) {
+            ratingSum += update.getRatingDelta();
+            ratingCount += update.getCountDelta();
+            stars[update.getRemovedStar()]--;
+            stars[update.getAddedStar()]++;
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.storereservation.domain.store.service;
 
 import com.example.storereservation.domain.review.dto.ReviewDto;
+import com.example.storereservation.domain.store.cache.StoreSearchCache;
 import com.example.storereservation.domain.store.dto.StoreDetail;
 import com.example.storereservation.domain.store.dto.StoreDto;
 import com.example.storereservation.domain.store.dto.StoreListQuery;
+import com.example.storereservation.domain.store.index.StoreGeoIndex;
+import com.example.storereservation.domain.store.index.StoreNameIndex;
+import com.example.storereservation.domain.store.index.StoreRankingIndex;
 import com.example.storereservation.domain.store.mybatis.MyBatisStoreRepository;
 import com.example.storereservation.domain.store.persist.StoreEntity;
+import com.example.storereservation.domain.store.persist.StoreRatingHistogram;
+import com.example.storereservation.domain.store.persist.StoreRatingUpdateEntity;
+import com.example.storereservation.domain.store.persist.StoreRatingUpdateRepository;
+import com.example.storereservation.domain.store.ranking.StoreRankingEngine;
 import com.example.storereservation.domain.store.persist.StoreRepository;
 import com.example.storereservation.global.exception.ErrorCode;
 import com.example.storereservation.global.exception.MyException;
@@ -13,13 +21,20 @@ import com.example.storereservation.global.type.PageConst;
 import com.example.storereservation.global.type.StoreSortType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,8 +43,17 @@ import java.util.stream.Collectors;
 @Service
 public class StoreService {
 
+    @Value("${store.name-index.max-candidates:1000}")
+    private int maxNameCandidates;
+
     private final StoreRepository storeRepository;
     private final MyBatisStoreRepository myBatisStoreRepository;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreNameIndex storeNameIndex;
+    private final StoreRankingIndex storeRankingIndex;
+    private final StoreRankingEngine storeRankingEngine;
+    private final StoreSearchCache storeSearchCache;
+    private final StoreRatingUpdateRepository storeRatingUpdateRepository;
 
     /**
      * 상점 명으로 상점 정보 찾기
@@ -43,12 +67,38 @@ public class StoreService {
 
     /**
      * 상점 명으로 상점 리스트 찾기
-     * SortType : ALL / ALPHABET / RATING / REVIEW_COUNTS / DISTANCE
+     * SortType : ALL / ALPHABET / RATING / REVIEW_COUNTS / DISTANCE / RECOMMEND
      * page : constant로 저장
+     * - StoreNameIndex로 매장 명이 일치하는 매장 ID를 찾은 후 해당 매장만 정렬해서 조회한다.
+     *   (검색어가 없거나 후보가 max-candidates보다 많으면 LIKE 검색)
+     * - RATING, RATING_COUNT 정렬은 StoreRankingIndex 순위표에서 DB 조회 없이 만든다.
+     * - RECOMMEND 정렬은 StoreRankingEngine의 점수 순 (인덱스가 준비되기 전에는 별점 순)
+     * - 별점 분포 조건(minStar)이 있으면 순위표의 별점 분포로 거르고, DB 조회는 rating_star1 ~ 5 컬럼 조건으로 거른다.
      */
     public Page<StoreDetail> getStoreListByStoreNameAndSortType(StoreListQuery input, Integer page) {
         PageRequest pageRequest = getPageRequestBySortTypeAndPage(input.getSortType(), page);
-        Page<StoreEntity> findStores = storeRepository.findByStoreNameContaining(input.getStoreName(), pageRequest);
+        if (input.getSortType() == StoreSortType.RECOMMEND && storeRankingEngine.isReady()) {
+            Page<StoreDetail> ranked = storeRankingEngine.rank(input, pageRequest);
+            if (ranked.getNumberOfElements() == 0) {
+                throw new MyException(ErrorCode.STORE_NO_SEARCH_RESULT);
+            }
+            return ranked;
+        }
+        if (StoreRankingIndex.supports(input.getSortType()) && storeRankingIndex.isReady()) {
+            Page<StoreDetail> ranked = findByStoreNameFromRanking(input, pageRequest);
+            if (ranked != null) {
+                if (ranked.getNumberOfElements() == 0) {
+                    throw new MyException(ErrorCode.STORE_NO_SEARCH_RESULT);
+                }
+                return ranked;
+            }
+        }
+
+        Set<Long> candidates = findCandidatesByStoreName(input.getStoreName());
+        if (candidates != null && candidates.isEmpty()) {
+            throw new MyException(ErrorCode.STORE_NO_SEARCH_RESULT);
+        }
+        Page<StoreEntity> findStores = findByStoreNameFromRepository(input, candidates, pageRequest);
 
         if (findStores.getNumberOfElements() == 0) {
             throw new MyException(ErrorCode.STORE_NO_SEARCH_RESULT);
@@ -60,9 +110,14 @@ public class StoreService {
     /**
      * 상점 명으로 상점 리스트 찾기
      * SortType : DISTANCE
+     * - StoreGeoIndex로 가까운 매장 ID를 찾은 후 해당 매장만 조회한다. (인덱스가 준비되기 전에는 MyBatis 거리 계산 쿼리)
+     *   별점 분포 조건이 있으면 StoreRankingIndex도 준비되어 있어야 인덱스로 조회한다.
      */
     public List<StoreDetail> getStoreListByStoreNameAndDistance(StoreListQuery input, Integer page) {
-        List<StoreDto> findStores = myBatisStoreRepository.findByStoreNameOrderByDistance(input, page);
+        boolean useIndex = storeGeoIndex.isReady() && (!input.hasRatingFilter() || storeRankingIndex.isReady());
+        List<StoreDto> findStores = useIndex
+                ? findByStoreNameOrderByDistance(input, page)
+                : myBatisStoreRepository.findByStoreNameOrderByDistance(input, page);
         if (findStores.isEmpty()) {
             throw new MyException(ErrorCode.STORE_NO_SEARCH_RESULT);
         }
@@ -70,11 +125,131 @@ public class StoreService {
         return findStores.stream().map(StoreDetail::fromDto).collect(Collectors.toList());
     }
 
+    /**
+     * StoreRankingIndex로 별점 / 리뷰 수 순 매장 조회
+     * @return 매장 목록 (매장 명 인덱스가 준비되지 않아 조회할 수 없으면 null)
+     */
+    private Page<StoreDetail> findByStoreNameFromRanking(StoreListQuery input, PageRequest pageRequest) {
+        String keyword = input.getStoreName();
+        Set<Long> ratingMatched = findByRatingShareFromRanking(input);
+        if (keyword == null || keyword.isEmpty()) {
+            return ratingMatched == null
+                    ? storeRankingIndex.page(input.getSortType(), pageRequest)
+                    : storeRankingIndex.page(input.getSortType(), ratingMatched, pageRequest);
+        }
+        if (!storeNameIndex.isReady()) {
+            return null;
+        }
+        return storeRankingIndex.page(input.getSortType(), intersect(storeNameIndex.search(keyword), ratingMatched),
+                pageRequest);
+    }
+
+    /**
+     * 매장 명 검색 후보(없으면 LIKE 검색)로 DB 조회 (별점 분포 조건이 있으면 함께 조회)
+     */
+    private Page<StoreEntity> findByStoreNameFromRepository(StoreListQuery input, Set<Long> candidates,
+                                                            PageRequest pageRequest) {
+        String storeName = input.getStoreName() == null ? "" : input.getStoreName();
+        if (!input.hasRatingFilter()) {
+            return candidates == null
+                    ? storeRepository.findByStoreNameContaining(storeName, pageRequest)
+                    : storeRepository.findByIdIn(candidates, pageRequest);
+        }
+        return candidates == null
+                ? storeRepository.findByStoreNameContainingAndRatingShare(storeName, input.getMinStar(),
+                        input.minStarRatioOrDefault(), pageRequest)
+                : storeRepository.findByIdInAndRatingShare(candidates, input.getMinStar(),
+                        input.minStarRatioOrDefault(), pageRequest);
+    }
+
+    /**
+     * StoreRankingIndex로 별점 분포 조건을 만족하는 매장 ID 조회
+     * @return 매장 ID (조건이 없으면 null)
+     */
+    private Set<Long> findByRatingShareFromRanking(StoreListQuery input) {
+        if (!input.hasRatingFilter()) {
+            return null;
+        }
+        return storeRankingIndex.findByRatingShare(input.getMinStar(), input.minStarRatioOrDefault());
+    }
+
+    /**
+     * 매장 명 검색 후보와 별점 분포 조건을 만족하는 매장의 교집합 (조건이 없으면 후보 그대로)
+     */
+    private Set<Long> intersect(Set<Long> candidates, Set<Long> ratingMatched) {
+        if (ratingMatched == null) {
+            return candidates;
+        }
+        Set<Long> matched = new HashSet<>(candidates);
+        matched.retainAll(ratingMatched);
+        return matched;
+    }
+
+    /**
+     * StoreNameIndex로 매장 명 검색 후보 조회
+     * @return 후보 매장 ID (인덱스를 사용할 수 없으면 null)
+     */
+    private Set<Long> findCandidatesByStoreName(String storeName) {
+        if (storeName == null || storeName.isEmpty() || !storeNameIndex.isReady()) {
+            return null;
+        }
+        Set<Long> candidates = storeNameIndex.search(storeName);
+        return candidates.size() <= maxNameCandidates ? candidates : null;
+    }
+
+    /**
+     * StoreGeoIndex로 거리 순 매장 조회
+     * - 매장 명 검색 후보가 적으면 후보만 거리 계산하고, 아니면 가까운 cell부터 찾으며 매장 명을 확인한다.
+     *   (후보 수를 알면 후보를 모두 찾았을 때 고리를 더 넓히지 않는다)
+     */
+    private List<StoreDto> findByStoreNameOrderByDistance(StoreListQuery input, Integer page) {
+        String keyword = input.getStoreName() == null ? "" : input.getStoreName();
+        int size = PageConst.STORE_LIST_PAGE_SIZE;
+        Set<Long> candidates = keyword.isEmpty() || !storeNameIndex.isReady() ? null : storeNameIndex.search(keyword);
+        Set<Long> ratingMatched = findByRatingShareFromRanking(input);
+        if (candidates != null) {
+            candidates = intersect(candidates, ratingMatched);
+        } else if (keyword.isEmpty()) {
+            candidates = ratingMatched;
+        }
+        List<StoreGeoIndex.GeoHit> hits;
+        if (candidates != null && candidates.size() <= maxNameCandidates) {
+            hits = storeGeoIndex.nearestAmong(input.getLat(), input.getLnt(), candidates, size * page, size);
+        } else if (candidates != null) {
+            hits = storeGeoIndex.nearest(input.getLat(), input.getLnt(), candidates::contains,
+                    candidates.size(), size * page, size);
+        } else {
+            // 매장 명 인덱스와 같이 대소문자 구분 없이 비교
+            String query = keyword.toLowerCase(Locale.ROOT);
+            hits = storeGeoIndex.nearest(input.getLat(), input.getLnt(), id -> {
+                if (ratingMatched != null && !ratingMatched.contains(id)) {
+                    return false;
+                }
+                String storeName = storeGeoIndex.storeNameOf(id);
+                return storeName != null && storeName.toLowerCase(Locale.ROOT).contains(query);
+            }, Integer.MAX_VALUE, size * page, size);
+        }
+
+        Map<Long, StoreEntity> stores = storeRepository.findAllById(
+                        hits.stream().map(StoreGeoIndex.GeoHit::getStoreId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(StoreEntity::getId, Function.identity()));
+
+        return hits.stream()
+                .filter(hit -> stores.containsKey(hit.getStoreId()))
+                .map(hit -> {
+                    StoreDto store = StoreDto.fromEntity(stores.get(hit.getStoreId()));
+                    store.setDistance(hit.getDistance());
+                    return store;
+                })
+                .collect(Collectors.toList());
+    }
+
     private PageRequest getPageRequestBySortTypeAndPage(StoreSortType storeSortType, Integer page) {
         PageRequest pageRequest = PageRequest.of(page, PageConst.STORE_LIST_PAGE_SIZE);
         if (storeSortType == StoreSortType.ALPHABET) {
             return PageRequest.of(page, PageConst.STORE_LIST_PAGE_SIZE, Sort.by("storeName"));
-        } else if (storeSortType == StoreSortType.RATING) {
+        } else if (storeSortType == StoreSortType.RATING || storeSortType == StoreSortType.RECOMMEND) {
             return PageRequest.of(page, PageConst.STORE_LIST_PAGE_SIZE, Sort.by("rating").descending());
         } else if (storeSortType == StoreSortType.RATING_COUNT) {
             return PageRequest.of(page, PageConst.STORE_LIST_PAGE_SIZE, Sort.by("ratingCount").descending());
@@ -84,60 +259,40 @@ public class StoreService {
 
     /**
      * 리뷰 추가됬을 때, 매장의 리뷰 업데이트
+     * - 리뷰와 같은 트랜잭션에서 별점 변경(별점 합계 +별점, 리뷰 수 +1, 해당 점수 분포 +1)만 저장한다.
+     *   매장 row는 StoreRatingUpdater가 매장 별로 모아서 갱신한다. (리뷰 작성 중 매장 row lock 없음)
      * @param review 추가된 리뷰
      */
     public void updateRatingForAddReview(ReviewDto review) {
-        StoreEntity store = storeRepository.findByStoreName(review.getStoreName())
-                .orElseThrow(() -> new MyException(ErrorCode.STORE_NOT_FOUND));
-        log.info("Update Store Rating, before update => rating: {}, count: {}", store.getRating(), store.getRatingCount());
-        Long ratingCount = store.getRatingCount();
-        double rating = getNewRatingForAddReview(store.getRating(), ratingCount, review.getRating());
-
-        store.setRating(rating);
-        store.setRatingCount(ratingCount + 1);
-
-        StoreEntity saved = storeRepository.save(store);
-        log.info("Update complete => rating: {}, count: {}", saved.getRating(), saved.getRatingCount());
-    }
-
-    /**
-     * 리뷰 추가 시 업데이트된 별점 반환
-     * @param rating 매장의 기존 별점
-     * @param ratingCount 매장의 기존 리뷰 수
-     * @param reviewRating 새로운 리뷰의 별점
-     * @return 업데이트 될 매장의 별점
-     */
-    private double getNewRatingForAddReview(double rating, Long ratingCount, double reviewRating) {
-        double updatedRating = rating * ((double) ratingCount / (ratingCount + 1)) + reviewRating / (ratingCount + 1);
-        log.info("Updated rating: {}", updatedRating);
-        return updatedRating;
+        storeRatingUpdateRepository.save(StoreRatingUpdateEntity.builder()
+                .storeId(review.getStoreId())
+                .ratingDelta(review.getRating())
+                .countDelta(1)
+                .removedStar(0)
+                .addedStar(StoreRatingHistogram.starOf(review.getRating()))
+                .createdAt(LocalDateTime.now())
+                .build());
     }
 
     /**
      * 리뷰 수정 시 매장 별점 정보 업데이트
+     * - 별점 합계에 (수정된 별점 - 기존 별점)을 더하고, 분포에서 기존 점수를 빼고 수정된 점수를 더하는 변경을 저장한다.
      * @param review 수정된 리뷰
      * @param oldRating 기존 리뷰의 별점
      */
     public void updateRatingForEditReview(ReviewDto review, double oldRating) {
-        StoreEntity store = storeRepository.findByStoreName(review.getStoreName())
-                .orElseThrow(() -> new MyException(ErrorCode.STORE_NOT_FOUND));
-
-        double newRating = getNewRatingForEditReview(store.getRating(), store.getRatingCount(), oldRating, review.getRating());
-
-        store.setRating(newRating);
-
-        storeRepository.save(store);
-    }
-
-    /**
-     * 리뷰 수정 시 업데이트 된 별점 반환
-     * @param rating 기존의 별점
-     * @param ratingCount 기존의 리뷰 수
-     * @param reviewOldRating 기존 리뷰의 별점
-     * @param reviewNewRating 수정된 리뷰의 별점
-     * @return 업데이트 될 매장의 별점
-     */
-    private double getNewRatingForEditReview(double rating, Long ratingCount, double reviewOldRating, double reviewNewRating) {
-        return rating - (reviewOldRating - reviewNewRating) / ratingCount;
+        int oldStar = StoreRatingHistogram.starOf(oldRating);
+        int newStar = StoreRatingHistogram.starOf(review.getRating());
+        if (review.getRating() == oldRating && oldStar == newStar) {
+            return;
+        }
+        storeRatingUpdateRepository.save(StoreRatingUpdateEntity.builder()
+                .storeId(review.getStoreId())
+                .ratingDelta(review.getRating() - oldRating)
+                .countDelta(0)
+                .removedStar(oldStar == newStar ? 0 : oldStar)
+                .addedStar(oldStar == newStar ? 0 : newStar)
+                .createdAt(LocalDateTime.now())
+                .build());
     }
 }
@@ -4,9 +4,11 @@ import com.example.storereservation.domain.user.dto.RegisterUser;
 import com.example.storereservation.domain.user.dto.UserDto;
 import com.example.storereservation.domain.user.persist.UserEntity;
 import com.example.storereservation.domain.user.persist.UserRepository;
+import com.example.storereservation.global.auth.cache.PrincipalCache;
 import com.example.storereservation.global.exception.ErrorCode;
 import com.example.storereservation.global.exception.MyException;
 import com.example.storereservation.global.util.PasswordUtils;
+import com.example.storereservation.global.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ import javax.transaction.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     /**
      * 유저 회원가입
@@ -38,6 +41,7 @@ public class UserService {
         UserEntity savedMember = userRepository.save(RegisterUser.Request.toEntity(request));
 
         log.info("User register complete: {}", savedMember);
+        TransactionUtils.afterCommit(() -> principalCache.invalidate(savedMember.getUserId()));
 
         return UserDto.fromEntity(savedMember);
     }
@@ -0,0 +1,80 @@
+package com.example.storereservation.global.auth.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 인증 사용자(UserEntity / PartnerEntity) 캐시
+ * - 토큰 인증마다 실행되는 AuthService.loadUserByUsername의 결과를 username을 key로 ttl-seconds 동안 보관한다.
+ * - 회원가입, 파트너의 매장 등록처럼 사용자 정보가 바뀌면 해당 username을 비운다. (비우는 중에 읽은 결과는 저장하지 않음)
+ * - 찾지 못한 사용자는 저장하지 않는다.
+ * - max-entries를 넘으면 만료된 사용자부터 지우고, 그래도 많으면 임의의 사용자를 지운다.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    @Value("${auth.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${auth.principal-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 캐시된 사용자 반환 (없거나 만료되었으면 loader로 읽은 후 저장)
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        long now = System.nanoTime();
+        CacheEntry cached = entries.get(username);
+        if (cached != null && cached.expiresAt - now > 0) {
+            return cached.principal;
+        }
+
+        long loadedGeneration = generation.get();
+        UserDetails principal = loader.apply(username);
+        if (generation.get() == loadedGeneration) {
+            if (entries.size() >= maxEntries) {
+                evict(now);
+            }
+            entries.put(username, new CacheEntry(principal, now + TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        return principal;
+    }
+
+    /**
+     * 사용자 정보 변경 시 해당 사용자 비우기
+     */
+    public void invalidate(String username) {
+        generation.incrementAndGet();
+        entries.remove(username);
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt - now <= 0);
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        log.debug("PrincipalCache evicted => size: {}", entries.size());
+    }
+
+    @AllArgsConstructor
+    private static class CacheEntry {
+        private final UserDetails principal;
+        private final long expiresAt;
+    }
+}
@@ -4,6 +4,7 @@ import com.example.storereservation.domain.partner.persist.PartnerEntity;
 import com.example.storereservation.domain.partner.persist.PartnerRepository;
 import com.example.storereservation.domain.user.persist.UserEntity;
 import com.example.storereservation.domain.user.persist.UserRepository;
+import com.example.storereservation.global.auth.cache.PrincipalCache;
 import com.example.storereservation.global.auth.dto.LoginInput;
 import com.example.storereservation.global.exception.ErrorCode;
 import com.example.storereservation.global.exception.MyException;
@@ -14,6 +15,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Slf4j
 @RequiredArgsConstructor
 @Service
@@ -21,6 +24,7 @@ public class AuthService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final PartnerRepository partnerRepository;
+    private final PrincipalCache principalCache;
 
     /**
      * 사용자 인증
@@ -50,15 +54,25 @@ public class AuthService implements UserDetailsService {
         return partner;
     }
 
+    /**
+     * 토큰 인증 시 사용자 조회
+     * - PrincipalCache에 있으면 DB를 조회하지 않는다.
+     * - 없으면 유저, 파트너 순서로 조회한다. (exists 확인 없이 find 한 번씩)
+     */
     @Override
     public UserDetails loadUserByUsername(String username) {
+        return principalCache.get(username, this::findPrincipal);
+    }
+
+    private UserDetails findPrincipal(String username) {
         log.info("Load User => USERNAME : {}", username);
-        if (userRepository.existsByUserId(username)) {
-            return userRepository.findByUserId(username)
-                    .orElseThrow(() -> new MyException(ErrorCode.USER_NOT_FOUND));
-        } else if (partnerRepository.existsByPartnerId(username)) {
-            return partnerRepository.findByPartnerId(username)
-                    .orElseThrow(() -> new MyException(ErrorCode.PARTNER_NOT_FOUND));
+        Optional<UserEntity> user = userRepository.findByUserId(username);
+        if (user.isPresent()) {
+            return user.get();
+        }
+        Optional<PartnerEntity> partner = partnerRepository.findByPartnerId(username);
+        if (partner.isPresent()) {
+            return partner.get();
         }
         log.error("AuthService -> loadUserByUsername FAILED");
         throw new MyException(ErrorCode.USER_NOT_FOUND);
@@ -0,0 +1,44 @@
+package com.example.storereservation.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * cursor(seek) 방식 페이지
+ * - count 쿼리 없이 (size + 1)개를 조회해서 다음 페이지 존재 여부를 판단한다.
+ * - nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회된다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * (size + 1)개 조회 결과로 페이지 생성
+     * @param rows 조회 결과 (최대 size + 1개)
+     * @param size 페이지 크기
+     * @param cursorOf 마지막 항목으로 다음 cursor를 만드는 함수
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> converter) {
+        List<R> converted = new ArrayList<>(content.size());
+        for (T item : content) {
+            converted.add(converter.apply(item));
+        }
+        return new CursorPage<>(converted, nextCursor, hasNext);
+    }
+}
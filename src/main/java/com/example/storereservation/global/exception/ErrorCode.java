@@ -33,6 +33,17 @@ public enum ErrorCode {
     RESERVATION_STATUS_CODE_ILLEGAL_ARGUMENT(HttpStatus.BAD_REQUEST.value(), "해당 상태코드가 존재하지 않습니다." +
             " (REQUESTING, REFUSED, CONFIRM, ARRIVED, USE_COMPLETE, NO_SHOW)"),
     RESERVATION_UPDATE_AUTH_FAIL(HttpStatus.BAD_REQUEST.value(), "해당 파트너는 해당 예약에 대한 변경 권한이 없습니다."),
+    RESERVATION_STATUS_TRANSITION_ILLEGAL(HttpStatus.CONFLICT.value(), "현재 예약 상태에서 변경할 수 없는 상태입니다."),
+    RESERVATION_BULK_TARGET_REQUIRED(HttpStatus.BAD_REQUEST.value(), "변경할 예약 ID 목록 또는 예약 날짜가 필요합니다."),
+    RESERVATION_BULK_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST.value(), "한 번에 변경할 수 있는 예약 수를 초과했습니다."),
+    RESERVATION_SLOT_FULL(HttpStatus.CONFLICT.value(), "해당 시간대에 예약 가능한 좌석이 부족합니다."),
+    RESERVATION_PEOPLE_ILLEGAL(HttpStatus.BAD_REQUEST.value(), "예약 인원 수를 확인해주세요."),
+    RESERVATION_WRITE_FAILED(HttpStatus.SERVICE_UNAVAILABLE.value(), "예약 저장에 실패했습니다. 잠시 후 다시 시도해주세요."),
+    RESERVATION_IDEMPOTENCY_KEY_ILLEGAL(HttpStatus.BAD_REQUEST.value(), "Idempotency-Key는 64자 이하여야 합니다."),
+    WAITLIST_NOT_FOUND(HttpStatus.BAD_REQUEST.value(), "대기 정보를 찾을 수 없습니다."),
+    WAITLIST_ALREADY_JOINED(HttpStatus.CONFLICT.value(), "해당 시간대에 이미 대기 중입니다."),
+    WAITLIST_SLOT_AVAILABLE(HttpStatus.CONFLICT.value(), "해당 시간대에 예약 가능한 좌석이 있습니다. 바로 예약해주세요."),
+    RESERVATION_IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY.value(), "같은 Idempotency-Key로 다른 예약을 요청할 수 없습니다."),
 
     // 예약 확인 status 문제 발생 시
     RESERVATION_PHONE_NUMBER_INCORRECT(HttpStatus.BAD_REQUEST.value(), "전화번호 정보가 일치하지 않습니다. 전화번호 뒷 4자리를 다시 입력해주세요."),
@@ -56,6 +67,7 @@ public enum ErrorCode {
     NO_AUTHORITY_ERROR(HttpStatus.FORBIDDEN.value(), "권한이 없습니다."),
     NOT_FOUND_ERROR(HttpStatus.NOT_FOUND.value(), "404 NOT FOUND"),
     BAD_REQUEST_ERROR(HttpStatus.BAD_REQUEST.value(), "BAD_REQUEST"),
+    CURSOR_ILLEGAL_ARGUMENT(HttpStatus.BAD_REQUEST.value(), "cursor 값이 올바르지 않습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR.value(), "내부 서버 오류가 발생 했습니다.");
 
     private final int statusCode;
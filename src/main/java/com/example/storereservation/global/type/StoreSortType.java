@@ -5,5 +5,6 @@ public enum StoreSortType {
     ALPHABET,
     RATING,
     RATING_COUNT,
-    DISTANCE
+    DISTANCE,
+    RECOMMEND
 }
\ No newline at end of file
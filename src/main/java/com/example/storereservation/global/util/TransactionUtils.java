@@ -0,0 +1,25 @@
+package com.example.storereservation.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtils {
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 실행 (트랜잭션이 없으면 즉시 실행)
+     * - 메모리 인덱스, 캐시 등에 커밋되지 않은 변경이 보이지 않도록 할 때 사용한다.
+     * @param task 실행할 작업
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.storereservation.domain.reservation.board;
+
+import com.example.storereservation.domain.reservation.persist.ReservationEntity;
+import com.example.storereservation.domain.reservation.persist.ReservationRepository;
+import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TodayReservationBoardTest {
+    private static final LocalDateTime TIME = LocalDate.now().atTime(12, 0);
+
+    private ReservationRepository reservationRepository;
+    private TodayReservationBoard board;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        board = new TodayReservationBoard(reservationRepository);
+    }
+
+    @Test
+    @DisplayName("재구성 중에 바뀐 예약 상태는 교체된 보드에 반영된다")
+    void rebuildReappliesChangesMadeDuringQuery() throws Exception {
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch changedDuringQuery = new CountDownLatch(1);
+        when(reservationRepository.findByStatusAndTimeBetween(eq(ReservationStatus.CONFIRM), any(), any()))
+                .thenAnswer(invocation -> {
+                    queryStarted.countDown();
+                    assertThat(changedDuringQuery.await(5, TimeUnit.SECONDS)).isTrue();
+                    return Arrays.asList(reservation(1L), reservation(2L));
+                });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> rebuild = executor.submit(board::rebuild);
+        assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        board.refreshAfterCommit(reservation(1L), ReservationStatus.ARRIVED);
+        board.refreshAfterCommit(reservation(3L), ReservationStatus.CONFIRM);
+        changedDuringQuery.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(board.find(1L)).isEmpty();
+        assertThat(board.find(2L)).isPresent();
+        assertThat(board.find(3L)).isPresent();
+        assertThat(board.findByPhoneNumberLast4("partner", "1234"))
+                .extracting(TodayReservationBoard.BoardEntry::getId)
+                .containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("재구성이 끝난 후의 변경은 journal 없이 바로 반영된다")
+    void changesAfterRebuildApplyDirectly() {
+        when(reservationRepository.findByStatusAndTimeBetween(eq(ReservationStatus.CONFIRM), any(), any()))
+                .thenReturn(Arrays.asList(reservation(1L)));
+        board.rebuild();
+
+        board.removeAfterCommit(1L);
+        board.refreshAfterCommit(reservation(2L), ReservationStatus.CONFIRM);
+
+        assertThat(board.find(1L)).isEmpty();
+        assertThat(board.find(2L)).isPresent();
+    }
+
+    private ReservationEntity reservation(Long id) {
+        return ReservationEntity.builder()
+                .id(id)
+                .userId("user" + id)
+                .phone("010-0000-1234")
+                .partnerId("partner")
+                .storeId(1L)
+                .storeName("store")
+                .people(2)
+                .status(ReservationStatus.CONFIRM)
+                .time(TIME)
+                .build();
+    }
+}
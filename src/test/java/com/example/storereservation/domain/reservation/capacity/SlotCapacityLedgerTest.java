@@ -0,0 +1,154 @@
+package com.example.storereservation.domain.reservation.capacity;
+
+import com.example.storereservation.domain.reservation.persist.ReservationEntity;
+import com.example.storereservation.domain.reservation.persist.ReservationRepository;
+import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SlotCapacityLedgerTest {
+    private static final Long STORE_ID = 1L;
+    private static final LocalDateTime TIME = LocalDate.now().plusDays(1).atTime(18, 0);
+
+    private ReservationRepository reservationRepository;
+    private SlotCapacityLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        ledger = new SlotCapacityLedger(reservationRepository);
+        ReflectionTestUtils.setField(ledger, "slotMinutes", 30);
+        ReflectionTestUtils.setField(ledger, "defaultCapacity", 20);
+    }
+
+    @Test
+    @DisplayName("동시에 좌석을 점유해도 좌석 수를 넘지 않는다")
+    void tryAcquireNeverOverbooks() throws Exception {
+        int capacity = 50;
+        int threads = 16;
+        int attemptsPerThread = 100;
+        AtomicInteger acquired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    if (ledger.tryAcquire(STORE_ID, TIME.plusMinutes(j % 30), 1, capacity)) {
+                        acquired.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(acquired.get()).isEqualTo(capacity);
+        assertThat(ledger.remaining(STORE_ID, TIME, capacity)).isZero();
+    }
+
+    @Test
+    @DisplayName("점유와 반환이 섞여도 남은 좌석 수가 맞다")
+    void acquireAndReleaseKeepCount() throws Exception {
+        int capacity = 10;
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 1000; j++) {
+                    if (ledger.tryAcquire(STORE_ID, TIME, 1, capacity)) {
+                        ledger.release(STORE_ID, TIME, 1);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(ledger.remaining(STORE_ID, TIME, capacity)).isEqualTo(capacity);
+    }
+
+    @Test
+    @DisplayName("재계산 중에 점유한 좌석은 교체된 ledger에 남는다")
+    void rebuildKeepsSeatsAcquiredDuringRebuild() throws Exception {
+        int capacity = 10;
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch acquiredDuringQuery = new CountDownLatch(1);
+        List<ReservationEntity> existing = Collections.singletonList(reservation(4));
+        when(reservationRepository.findByStatusInAndTimeGreaterThanEqual(any(), any())).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            assertThat(acquiredDuringQuery.await(5, TimeUnit.SECONDS)).isTrue();
+            return existing;
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> rebuild = executor.submit(ledger::rebuild);
+        assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ledger.tryAcquire(STORE_ID, TIME, 3, capacity)).isTrue();
+        acquiredDuringQuery.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(ledger.remaining(STORE_ID, TIME, capacity)).isEqualTo(capacity - 4 - 3);
+        assertThat(ledger.tryAcquire(STORE_ID, TIME, 4, capacity)).isFalse();
+        assertThat(ledger.tryAcquire(STORE_ID, TIME, 3, capacity)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재계산이 실패하면 기존 ledger를 그대로 사용한다")
+    void rebuildFailureKeepsLedger() {
+        int capacity = 10;
+        assertThat(ledger.tryAcquire(STORE_ID, TIME, 5, capacity)).isTrue();
+        when(reservationRepository.findByStatusInAndTimeGreaterThanEqual(any(), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(ledger::rebuild).isInstanceOf(IllegalStateException.class);
+
+        assertThat(ledger.remaining(STORE_ID, TIME, capacity)).isEqualTo(5);
+        assertThat(ledger.tryAcquire(STORE_ID, TIME, 5, capacity)).isTrue();
+        assertThat(ledger.tryAcquire(STORE_ID, TIME, 1, capacity)).isFalse();
+    }
+
+    private ReservationEntity reservation(int people) {
+        return ReservationEntity.builder()
+                .storeId(STORE_ID)
+                .people(people)
+                .status(ReservationStatus.CONFIRM)
+                .time(TIME)
+                .build();
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.storereservation.domain.reservation.persist;
+
+import com.example.storereservation.domain.reservation.type.ReservationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReservationBatchWriter group commit 테스트
+ * - JDBC Connection을 mock으로 대신해서 batch 크기(INSERT 한 번의 VALUES 행 수)와 생성된 ID를 확인한다.
+ */
+class ReservationBatchWriterTest {
+    private static final String FAILING_USER = "failing-user";
+
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final List<Integer> insertedBatchSizes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger committedTransactions = new AtomicInteger();
+
+    private ReservationBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            Object result = callback.doInTransaction(null);
+            committedTransactions.incrementAndGet();
+            return result;
+        });
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocation -> {
+            ConnectionCallback<?> callback = invocation.getArgument(0);
+            try {
+                return callback.doInConnection(connection());
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        writer = new ReservationBatchWriter(jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(writer, "maxBatchSize", 10);
+        ReflectionTestUtils.setField(writer, "maxWaitMillis", 200L);
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 예약은 한 번의 INSERT로 저장되고 각자 다른 ID를 받는다")
+    void concurrentSubmitsShareOneInsert() throws Exception {
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(writer.submit(reservation("user" + i)));
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (CompletableFuture<Long> future : futures) {
+            ids.add(future.get(5, TimeUnit.SECONDS));
+        }
+
+        assertThat(ids).hasSize(5);
+        assertThat(insertedBatchSizes).containsExactly(5);
+        assertThat(committedTransactions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-batch-size를 넘으면 여러 batch로 나눠 저장한다")
+    void splitsAtMaxBatchSize() throws Exception {
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            futures.add(writer.submit(reservation("user" + i)));
+        }
+        for (CompletableFuture<Long> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(insertedBatchSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(10));
+        assertThat(insertedBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("batch 저장이 실패하면 한 건씩 다시 저장해서 실패한 요청만 실패한다")
+    void failedBatchRetriesOneByOne() throws Exception {
+        CompletableFuture<Long> first = writer.submit(reservation("user1"));
+        CompletableFuture<Long> failing = writer.submit(reservation(FAILING_USER));
+        CompletableFuture<Long> last = writer.submit(reservation("user2"));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(last.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThatThrownBy(() -> failing.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        assertThat(insertedBatchSizes).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("저장이 시작되기 전에 취소된 요청은 저장하지 않는다")
+    void canceledBeforeFlushIsSkipped() throws Exception {
+        CompletableFuture<Long> canceled = writer.submit(reservation("user1"));
+        assertThat(canceled.cancel(false)).isTrue();
+        CompletableFuture<Long> kept = writer.submit(reservation("user2"));
+
+        assertThat(kept.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(canceled).isCancelled();
+        assertThat(insertedBatchSizes).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("저장이 시작된 요청은 취소할 수 없다")
+    void cannotCancelAfterFlushStarted() throws Exception {
+        CompletableFuture<Long> future = writer.submit(reservation("user1"));
+        future.get(5, TimeUnit.SECONDS);
+
+        assertThat(future.cancel(false)).isFalse();
+        assertThat(future).isCompleted().isNotCancelled();
+    }
+
+    @Test
+    @DisplayName("종료된 writer는 요청을 바로 실패시킨다")
+    void rejectsAfterStop() throws InterruptedException {
+        writer.stop();
+
+        CompletableFuture<Long> future = writer.submit(reservation("user1"));
+
+        assertThat(future).isCompletedExceptionally();
+    }
+
+    /**
+     * INSERT의 VALUES 행 수만큼 ID를 생성하는 Connection
+     * - FAILING_USER 예약이 포함된 INSERT는 실패한다.
+     */
+    private Connection connection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString(), anyInt())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            int rows = sql.split("\\(\\?", -1).length - 1;
+            PreparedStatement ps = mock(PreparedStatement.class);
+            doThrow(new SQLException("constraint violation")).when(ps).setString(anyInt(), eq(FAILING_USER));
+            when(ps.executeUpdate()).thenAnswer(update -> {
+                insertedBatchSizes.add(rows);
+                return rows;
+            });
+            ResultSet keys = generatedKeys(rows);
+            when(ps.getGeneratedKeys()).thenReturn(keys);
+            return ps;
+        });
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        return connection;
+    }
+
+    private ResultSet generatedKeys(int rows) throws SQLException {
+        ResultSet keys = mock(ResultSet.class);
+        AtomicInteger remaining = new AtomicInteger(rows);
+        when(keys.next()).thenAnswer(invocation -> remaining.getAndDecrement() > 0);
+        when(keys.getLong(1)).thenAnswer(invocation -> nextId.getAndIncrement());
+        return keys;
+    }
+
+    private ReservationEntity reservation(String userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return ReservationEntity.builder()
+                .userId(userId)
+                .phone("010-0000-0000")
+                .partnerId("partner")
+                .storeId(1L)
+                .storeName("store")
+                .people(2)
+                .status(ReservationStatus.REQUESTING)
+                .statusUpdatedAt(now)
+                .time(now.plusDays(1))
+                .build();
+    }
+}
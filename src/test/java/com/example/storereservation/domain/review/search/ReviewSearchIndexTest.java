@@ -0,0 +1,119 @@
+package com.example.storereservation.domain.review.search;
+
+import com.example.storereservation.domain.review.persist.ReviewEntity;
+import com.example.storereservation.domain.review.persist.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+
+class ReviewSearchIndexTest {
+    private static final long STORE_ID = 1L;
+    private static final String[] TEXTS = {
+            "파스타가 정말 맛있어요",
+            "분위기 좋고 파스타 양도 많아요",
+            "직원이 친절하고 맛있어요",
+            "주차가 불편해요",
+            "pasta was great and staff were kind",
+    };
+
+    private ReviewSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ReviewSearchIndex(mock(ReviewRepository.class));
+    }
+
+    @Test
+    @DisplayName("posting은 가변 길이 정수로 저장한 문서 번호와 빈도를 그대로 돌려준다")
+    void postingsRoundTrip() {
+        int[] docs = {0, 1, 127, 128, 300, 16_383, 16_384, 2_097_152, Integer.MAX_VALUE};
+        int[] tfs = {1, 127, 128, 2, 16_384, 1, 3, 70_000, Integer.MAX_VALUE};
+        ReviewSearchIndex.Postings postings = new ReviewSearchIndex.Postings();
+        for (int i = 0; i < docs.length; i++) {
+            postings.add(docs[i], tfs[i]);
+        }
+
+        List<int[]> decoded = new ArrayList<>();
+        postings.forEach((doc, tf) -> decoded.add(new int[]{doc, tf}));
+
+        assertThat(decoded).hasSize(docs.length);
+        for (int i = 0; i < docs.length; i++) {
+            assertThat(decoded.get(i)).containsExactly(docs[i], tfs[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("수정 전 문서는 IDF 계산에 포함되지 않는다")
+    void deletedDocumentsDoNotAffectScore() {
+        for (int id = 1; id <= 5; id++) {
+            index.put(review(id, "파스타 " + TEXTS[id - 1]));
+        }
+        for (int id = 1; id <= 5; id++) {
+            index.put(review(id, TEXTS[id - 1]));
+        }
+
+        assertSameRanking(index, freshIndex(), "파스타 맛있어요");
+    }
+
+    @Test
+    @DisplayName("압축 후에도 검색 순위와 점수가 유지된다")
+    void rankingSurvivesCompaction() {
+        int reviews = 40;
+        for (int round = 0; round < 3; round++) {
+            for (int id = 1; id <= reviews; id++) {
+                index.put(review(id, round == 2 ? textOf(id) : "주차 " + round));
+            }
+        }
+
+        ReviewSearchIndex fresh = new ReviewSearchIndex(mock(ReviewRepository.class));
+        for (int id = 1; id <= reviews; id++) {
+            fresh.put(review(id, textOf(id)));
+        }
+
+        assertSameRanking(index, fresh, "파스타 맛있어요");
+        assertSameRanking(index, fresh, "kind staff");
+        assertThat(index.search(STORE_ID, "0", null, 0, 10)).isEmpty();
+    }
+
+    private void assertSameRanking(ReviewSearchIndex actual, ReviewSearchIndex expected, String query) {
+        List<ReviewSearchIndex.SearchHit> actualHits = actual.search(STORE_ID, query, null, 0, 100);
+        List<ReviewSearchIndex.SearchHit> expectedHits = expected.search(STORE_ID, query, null, 0, 100);
+
+        assertThat(actualHits).isNotEmpty();
+        assertThat(actualHits).extracting(ReviewSearchIndex.SearchHit::getReviewId)
+                .containsExactlyElementsOf(expectedHits.stream().map(ReviewSearchIndex.SearchHit::getReviewId)
+                        .collect(Collectors.toList()));
+        for (int i = 0; i < actualHits.size(); i++) {
+            assertThat(actualHits.get(i).getScore()).isCloseTo(expectedHits.get(i).getScore(), within(1e-4));
+        }
+    }
+
+    private ReviewSearchIndex freshIndex() {
+        ReviewSearchIndex fresh = new ReviewSearchIndex(mock(ReviewRepository.class));
+        for (int id = 1; id <= 5; id++) {
+            fresh.put(review(id, TEXTS[id - 1]));
+        }
+        return fresh;
+    }
+
+    private String textOf(long id) {
+        return TEXTS[(int) (id % TEXTS.length)];
+    }
+
+    private ReviewEntity review(long id, String text) {
+        return ReviewEntity.builder()
+                .id(id)
+                .storeId(STORE_ID)
+                .rating(4.0)
+                .text(text)
+                .build();
+    }
+}
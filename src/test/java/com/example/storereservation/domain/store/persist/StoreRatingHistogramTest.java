@@ -0,0 +1,43 @@
+package com.example.storereservation.domain.store.persist;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreRatingHistogramTest {
+
+    @Test
+    @DisplayName("백분위와 중앙값은 낮은 점수부터 누적한 리뷰 수로 계산된다")
+    void percentile() {
+        // 1점 1개, 3점 2개, 4점 3개, 5점 4개 (총 10개)
+        StoreRatingHistogram histogram = new StoreRatingHistogram(1, 0, 2, 3, 4);
+
+        assertThat(histogram.percentile(10)).isEqualTo(1);
+        assertThat(histogram.percentile(25)).isEqualTo(3);
+        assertThat(histogram.median()).isEqualTo(4);
+        assertThat(histogram.percentile(75)).isEqualTo(5);
+        assertThat(histogram.percentile(100)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("점수 이상 리뷰 수와 비율 조건")
+    void countAtLeast() {
+        StoreRatingHistogram histogram = new StoreRatingHistogram(1, 0, 2, 3, 4);
+
+        assertThat(histogram.countAtLeast(4)).isEqualTo(7);
+        assertThat(histogram.countAtLeast(0)).isEqualTo(10);
+        assertThat(histogram.countAtLeast(6)).isZero();
+        assertThat(histogram.hasShareAtLeast(4, 0.7)).isTrue();
+        assertThat(histogram.hasShareAtLeast(5, 0.5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("리뷰가 없으면 백분위는 null, 비율 조건은 만족하지 않는다")
+    void empty() {
+        StoreRatingHistogram histogram = new StoreRatingHistogram();
+
+        assertThat(histogram.median()).isNull();
+        assertThat(histogram.hasShareAtLeast(1, 0)).isFalse();
+    }
+}